@@ -3,7 +3,7 @@ package com.dougnoel.sentinel.apis;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import com.dougnoel.sentinel.configurations.ConfigurationManager;
+import com.dougnoel.sentinel.configurations.PageObjectRegistry;
 import com.dougnoel.sentinel.exceptions.ConfigurationNotFoundException;
 
 /**
@@ -26,30 +26,6 @@ public class APIFactory {
 		// Exists only to defeat instantiation
 	}
 	
-	/**
-	 * Returns an API object if it exists in the package searched.
-	 * @param pageName String the name of the API object class to instantiate
-	 * @param packageName String the name of the package to search
-	 * @return API the API object if it exists, otherwise null
-	 */
-	private static API findAPIInPackage(String pageName, String packageName) {
-		API api = null;
-		try {
-			api = (API) Class.forName(packageName + "." + pageName).newInstance();
-		} catch (InstantiationException e) {
-			log.trace("{}.{} API Object creation failed.", packageName, pageName);
-			log.trace("java.lang.InstantiationException: {}", e.getMessage());
-		} catch (IllegalAccessException e) {
-			log.trace("{}.{} API Object creation failed.", packageName, pageName);
-			log.trace("java.lang.IllegalAccessException: {}", e.getMessage());
-		} catch (ClassNotFoundException e) {
-			log.trace("{}.{} API Object creation failed.", packageName, pageName);
-			log.trace("java.lang.ClassNotFoundException: {}", e.getMessage());
-		}
-		
-		return api;
-	}
-	
 	/**
 	 * Returns the API Object for the API name. This allows us to operate on APIs without knowing 
 	 * they exist when we write step definitions.
@@ -65,16 +41,7 @@ public class APIFactory {
 	 * @throws ConfigurationNotFoundException if the value is not found in the configuration file
 	 */
 	public static API buildAPI(String apiName) throws ConfigurationNotFoundException {
-		API api = null;
-		String[] pageObjectPackagesList = ConfigurationManager.getPageObjectPackageList();
-
-		for (String apiObjectPackage : pageObjectPackagesList) {
-			log.trace("apiObjectPackage: " + apiObjectPackage);
-			api = findAPIInPackage(apiName, apiObjectPackage);
-			if (api != null) {
-				break; // If we have a page object, stop searching.
-			}
-		}
+		API api = PageObjectRegistry.newInstance(apiName, API.class);
 		if(api == null) {
 			throw new ConfigurationNotFoundException("The API you want to test could not be built. At least one Page object package is required to run a test. Please add a pageObjectPackages property to your conf/sentinel.yml configuration file and try again.");
 		}
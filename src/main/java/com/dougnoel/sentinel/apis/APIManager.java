@@ -1,13 +1,13 @@
 package com.dougnoel.sentinel.apis;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.dougnoel.sentinel.exceptions.ConfigurationNotFoundException;
 import com.dougnoel.sentinel.exceptions.PageNotFoundException;
 
 public class APIManager {
-	private static Map<String, API> apis = new HashMap<String, API>();
+	private static final Map<String, API> apis = new ConcurrentHashMap<>();
 	
 	private APIManager() {
 		// Exists only to defeat instantiation.
@@ -1,12 +1,11 @@
 package com.dougnoel.sentinel.apis;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.dougnoel.sentinel.exceptions.NoSuchActionException;
+import com.dougnoel.sentinel.reflection.MethodDispatchTable;
+import com.dougnoel.sentinel.strings.NameNormalizer;
 import com.dougnoel.sentinel.strings.StringUtils;
 
 public abstract class ActionFunctions {
@@ -30,27 +29,26 @@ public abstract class ActionFunctions {
      */
     public static Action getAction(String actionName, String uid) throws NoSuchActionException {
     	API api = APIManager.getAPI(uid);
-        actionName = actionName.replaceAll("\\s+", "_").toLowerCase();
-        Method actionMethod = null;
-        try { // Create a Method object to store the Action we want to exercise;
-        	actionMethod = api.getClass().getMethod(actionName);
-        } catch (NoSuchMethodException e) {
+        actionName = NameNormalizer.normalize(actionName);
+        Object action = null;
+        try {  // Invoke the creation of the Action and return it into a variable if no exception is thrown.
+        	action = MethodDispatchTable.invoke(api, actionName);
+        } catch (Error e) {
+        	throw e;
+        } catch (Throwable e) {
+        	String errorMessage = StringUtils.format("Action {} could not be found in API {}. Please ensure the Action is defined on the page.", actionName, api.getName());
+        	log.error(errorMessage);
+        	throw new NoSuchActionException(errorMessage, e);
+        } 
+        if (action == MethodDispatchTable.NOT_FOUND) {
             String errorMessage = StringUtils.format("Action {} is not defined for the API object {}. Make sure you have spelled the API name correctly in your Cucumber step definition and in the API object.", 
             		actionName, api.getName());
             log.error(errorMessage);
-            throw new NoSuchActionException(errorMessage, e);
+            throw new NoSuchActionException(errorMessage);
         }
-        Action action = null;
-        try {  // Invoke the creation of the PageElement and return it into a variable if no exception is thrown.
-        	action = (Action) actionMethod.invoke(api);
-            log.trace("PageElement Name: " + actionMethod.getName());
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-        	String errorMessage = StringUtils.format("Action {} could not be found in API {}. Please ensure the Action is defined on the page.", actionMethod.getName(), api.getName());
-        	log.error(errorMessage);
-        	throw new NoSuchActionException(errorMessage);
-        } 
+        log.trace("Action Name: " + actionName);
 
-        return action;
+        return (Action) action;
     }
 
     public static GET getActionAsGet(String actionName, String uid) throws NoSuchActionException {
@@ -1,10 +1,10 @@
 package com.dougnoel.sentinel.apis;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RequestManager {
-	private static Map<String, Request> requests = new HashMap<String, Request>();
+	private static final Map<String, Request> requests = new ConcurrentHashMap<>();
 	
 	private RequestManager() {
 		// Exists only to defeat instantiation.
@@ -29,21 +29,13 @@ public class RequestManager {
 	}
 	
 	public static void addHeader(String uid, String key, String value) {
-		Request request = requests.get(uid);
-		if (request == null) {
-			request = new Request();
-		}
+		Request request = requests.computeIfAbsent(uid, k -> new Request());
 		request.addHeader(key, value);
-		requests.put(uid, request);
 	}
 	
 	public static void addRequestParameter(String uid, String key, String value) {
-		Request request = requests.get(uid);
-		if (request == null) {
-			request = new Request();
-		}
+		Request request = requests.computeIfAbsent(uid, k -> new Request());
 		request.addRequestParameter(key, value);
-		requests.put(uid, request);
 	}
 
 }
\ No newline at end of file
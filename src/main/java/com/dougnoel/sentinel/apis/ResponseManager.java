@@ -1,10 +1,10 @@
 package com.dougnoel.sentinel.apis;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ResponseManager {
-	private static Map<String, Response> responses = new HashMap<String, Response>();
+	private static final Map<String, Response> responses = new ConcurrentHashMap<>();
 	
 	private ResponseManager() {
 		// Exists only to defeat instantiation.
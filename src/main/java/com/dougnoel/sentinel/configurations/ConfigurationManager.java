@@ -1,7 +1,8 @@
 package com.dougnoel.sentinel.configurations;
 
 import java.io.File;
-import java.util.Properties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
@@ -20,10 +21,7 @@ import com.dougnoel.sentinel.pages.PageData;
 import com.dougnoel.sentinel.pages.PageManager;
 import com.dougnoel.sentinel.strings.StringUtils;
 import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 /**
  *  Manages configuration actions, changes, and interaction with PageObject including functionality to get default timeout,
@@ -37,11 +35,8 @@ public class ConfigurationManager {
 
 	private static ConfigurationManager instance = null;
 	
-	private static Properties appProps = new Properties();
-	
 	private static String downloadDirectory = "../../Downloads";
-	/* default timeout in seconds */
-	private static long timeout = 10L;
+	private static final Map<String, ConfigurationSnapshot> configurationSnapshots = new ConcurrentHashMap<>();
 	
 	private static ConfigurationData sentinelConfigurations = null;
 
@@ -93,8 +88,7 @@ public class ConfigurationManager {
 		
 		if(sentinelConfigurations == null) {
 			try {
-				ObjectMapper mapper = new ObjectMapper(new YAMLFactory()).configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-				sentinelConfigurations = mapper.readValue( new ConfigurationData(), ConfigurationData.class );
+				sentinelConfigurations = ObjectMappers.getYamlMapper().readValue( new ConfigurationData(), ConfigurationData.class );
 			} catch (JsonParseException e) {
 				String errorMessage = StringUtils.format("Configuration file {} is not a valid YAML file. Could not load the {} property. Please fix the file or pass the property in on the commandline using the -D{}= option.", sentinelConfigurations.getAbsolutePath(), configurationKey, configurationKey);
 				throw new ConfigurationParseException(errorMessage, e);
@@ -185,15 +179,17 @@ public class ConfigurationManager {
 	}
 
 	/**
-	 * Returns the YAML config file path in the project for a given page object.
+	 * Returns the YAML config file path in the project for a given page object. Files are looked up in the
+	 * PageObjectFileIndex, which searches the page object packages once and caches the result.
 	 * 
+	 * @see com.dougnoel.sentinel.configurations.PageObjectFileIndex#getPageObjectFile(String)
 	 * @param pageName String the name of the page object
 	 * @return File the OS path to the config file
 	 * @throws FileNotFoundException if the config file is not found in the project or the file is not readable.
 	 */
 	public static File getPageObjectConfigPath(String pageName) throws ConfigurationNotFoundException {
 		String filename = pageName + ".yml";
-		File result = searchDirectory(new File("src/"), filename);
+		File result = PageObjectFileIndex.getPageObjectFile(pageName);
 
 		if (result == null) {
 			String errorMessage = StringUtils.format("Failed to locate the {} configuration file. Please ensure the file exists in the same directory as the page object.", filename);
@@ -236,17 +232,28 @@ public class ConfigurationManager {
   
 	/**
 	 * Returns page data through yaml instructions to a config path in given pageName string. 
+	 * Parsed page data is cached and only reloaded if the page object file changes on disk.
 	 * 
 	 * @see com.dougnoel.sentinel.configurations.ConfigurationManager#getPageObjectConfigPath(String)
+	 * @see com.dougnoel.sentinel.configurations.PageDataCache
 	 * @param pageName String the name of the page for which the data is retrieved
 	 * @return PageData the class for the data on desired page
 	 * @throws ConfigurationNotFoundException if a configuration option cannot be loaded
 	 * @throws PageObjectNotFoundException if the page object file could not be read
 	 */
 	protected static PageData loadPageData(String pageName) throws PageObjectNotFoundException, ConfigurationNotFoundException {
+		File pageObjectFile = getPageObjectConfigPath(pageName);
 		PageData pageData = null;
+		if (pageObjectFile != null) {
+			pageData = PageDataCache.get(pageName, pageObjectFile);
+			if (pageData != null) {
+				return pageData;
+			}
+		}
+		// Read the timestamp before parsing so a change made during the read triggers a reload next time.
+		long lastModified = pageObjectFile == null ? 0L : pageObjectFile.lastModified();
 		try {
-			pageData = PageData.loadYaml(getPageObjectConfigPath(pageName));
+			pageData = PageData.loadYaml(pageObjectFile);
 		} catch (java.nio.file.AccessDeniedException e) {
 			String errorMessage = StringUtils.format("Could not access the file {}.yml. Please ensure the file can be read by the current user and is not password protected.", pageName);
 			log.error(errorMessage);
@@ -261,6 +268,9 @@ public class ConfigurationManager {
 			log.error(errorMessage);
 			throw new PageObjectNotFoundException(errorMessage);
 		}
+		if (pageObjectFile != null) {
+			PageDataCache.put(pageName, pageObjectFile, lastModified, pageData);
+		}
 		log.trace("Page data loaded: {}", pageName);
 		return pageData;
 	}
@@ -462,21 +472,36 @@ public class ConfigurationManager {
 		return data;
 	}
 
+	/**
+	 * Returns the typed configuration snapshot for the current environment. The snapshot is resolved the
+	 * first time it is requested for an environment and reused after that.
+	 * 
+	 * @see com.dougnoel.sentinel.configurations.ConfigurationSnapshot
+	 * @return ConfigurationSnapshot the resolved configuration values
+	 */
+	public static ConfigurationSnapshot getConfiguration() {
+		String env = System.getProperty("env");
+		return configurationSnapshots.computeIfAbsent(env == null ? "" : env, key -> new ConfigurationSnapshot(env));
+	}
+
+	/**
+	 * Discards all resolved configuration snapshots so that they are read again on next use. Call this
+	 * after changing a system property such as timeout or browser while tests are running.
+	 */
+	public static void clearConfiguration() {
+		configurationSnapshots.clear();
+	}
+
 	/**
 	 * Returns the default value set in the timeout property.
 	 * The default if the property is not set is 10.
 	 * The method getDefaultTimeUnit is used to determine how the value is measured.
+	 * 
+	 * @see com.dougnoel.sentinel.configurations.ConfigurationSnapshot#getTimeout()
 	 * @return long the timeout 
 	 */
 	public static long getDefaultTimeout() {
-		long timeout = ConfigurationManager.timeout;
-		String timeoutProp = getOptionalProperty("timeout");
-		if(StringUtils.isNotEmpty(timeoutProp)) {
-			timeout = Long.parseLong(timeoutProp);
-		} else {
-			log.debug("No timeout property set, using the default timeout value of {}.", timeout);
-		}
-		return timeout;
+		return getConfiguration().getTimeout();
 	}
 
 	/**
@@ -485,58 +510,34 @@ public class ConfigurationManager {
 	 * The default if the value is not set is TimeUnit.SECONDS.
 	 * The method getDefaultTimeout is used to determine the duration of the timeout.
 	 * 
+	 * @see com.dougnoel.sentinel.configurations.ConfigurationSnapshot#getTimeUnit()
 	 * @return java.util.concurrent.TimeUnit the default value
 	 */
 	public static TimeUnit getDefaultTimeUnit() {
-		String unit = StringUtils.capitalize(getOptionalProperty("timeunit"));
-
-		if(unit == null) {
-			return TimeUnit.SECONDS;
-		}
-		switch (unit) {
-		case "DAYS":
-			return TimeUnit.DAYS;
-		case "HOURS":
-			return TimeUnit.HOURS;
-		case "MINUTES":
-			return TimeUnit.MINUTES;
-		case "SECONDS":
-			return TimeUnit.SECONDS;
-		case "MICROSECONDS":
-			return TimeUnit.MICROSECONDS;
-		case "MILLISECONDS":
-			return TimeUnit.MILLISECONDS;
-		case "NANOSECONDS":
-			return TimeUnit.NANOSECONDS;
-		default:
-			return TimeUnit.SECONDS;
-		}
+		return getConfiguration().getTimeUnit();
 	}
 
 	/**
-	 * Stores values in a property object for quick and dirty dependency injection.
+	 * Stores values for quick and dirty dependency injection between the steps of a scenario.
 	 * Replaces space chars with '_' char, makes key all lowercase, and logs action.
 	 * 
+	 * @see com.dougnoel.sentinel.configurations.ScenarioValueStore#setValue(String, String)
 	 * @param key String the key to set
 	 * @param value String the value to set
 	 */
 	public static void setValue(String key, String value) {
-		key = key.replaceAll("\\s+", "_").toLowerCase();
-		appProps.setProperty(key, value);
-		log.trace("Stored key/value pair: " + key + "/" + value);
+		ScenarioValueStore.setValue(key, value);
 	}
 
 	/**
 	 * Retrieves values between steps during quick and dirty dependency injection.
 	 * Replaces space chars with '_' char, makes key all lowercase, and logs action.
 	 *
+	 * @see com.dougnoel.sentinel.configurations.ScenarioValueStore#getValue(String)
 	 * @param key String the item to get 
 	 * @return String the value for the given key
 	 */
 	public static String getValue(String key) {
-		key = key.replaceAll("\\s+", "_").toLowerCase();
-		String value = appProps.getProperty(key);
-		log.trace("Retrieved key/value pair: " + key + "/" + value);
-		return value;
+		return ScenarioValueStore.getValue(key);
 	}
 }
@@ -0,0 +1,400 @@
+package com.dougnoel.sentinel.configurations;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.dougnoel.sentinel.elements.KeyInjector;
+import com.dougnoel.sentinel.elements.PollingStrategy;
+import com.dougnoel.sentinel.enums.BudgetAction;
+import com.dougnoel.sentinel.enums.KeyInjectionType;
+import com.dougnoel.sentinel.enums.PollingType;
+import com.dougnoel.sentinel.exceptions.ConfigurationNotFoundException;
+import com.dougnoel.sentinel.instrumentation.StepBudget;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * An immutable, typed view of the configuration values that are read on every element interaction.
+ * A snapshot is resolved once per environment by the ConfigurationManager, so code on the hot path
+ * does not need to re-read system properties or sentinel.yml and re-parse the values on every call.
+ *
+ * @see com.dougnoel.sentinel.configurations.ConfigurationManager#getConfiguration()
+ */
+public class ConfigurationSnapshot {
+	/* default timeout in seconds */
+	private static final long DEFAULT_TIMEOUT = 10L;
+	/* default polling intervals in milliseconds */
+	private static final long DEFAULT_POLLING_INTERVAL = 10L;
+	private static final long DEFAULT_POLLING_MAX_INTERVAL = 500L;
+	/* default time in milliseconds to wait for an element to go away */
+	private static final long DEFAULT_ABSENCE_WINDOW = 250L;
+	/* default number of rows read from a virtual scrolling table before giving up */
+	private static final int DEFAULT_TABLE_MAX_ROWS = 10000;
+	private static final long DEFAULT_TABLE_SCROLL_TIMEOUT = 10000L;
+
+	private final String environment;
+	private final long timeout;
+	private final TimeUnit timeUnit;
+	private final Duration defaultTimeout;
+	private final long defaultTimeoutInSeconds;
+	private final String browser;
+	private final String operatingSystem;
+	private final PollingStrategy pollingStrategy;
+	private final Duration absenceWindow;
+	private final KeyInjector keyInjector;
+	private final StepBudget stepBudget;
+	private final boolean tableScrapingScripted;
+	private final int tableScrollChunk;
+	private final int tableMaxRows;
+	private final long tableScrollTimeout;
+
+	/**
+	 * Resolves all values for the given environment. Values set as system properties take precedence
+	 * over values in the configuration file, as they do for ConfigurationManager.getOptionalProperty().
+	 *
+	 * @param environment String the environment the values were resolved for, or null if none is set
+	 */
+	protected ConfigurationSnapshot(String environment) {
+		this.environment = environment;
+		this.timeout = parseTimeout(ConfigurationManager.getOptionalProperty("timeout"));
+		this.timeUnit = parseTimeUnit(ConfigurationManager.getOptionalProperty("timeunit"));
+		this.defaultTimeout = Duration.ofNanos(timeUnit.toNanos(timeout));
+		long seconds = timeUnit.toSeconds(timeout);
+		this.defaultTimeoutInSeconds = timeUnit.toNanos(timeout) > TimeUnit.SECONDS.toNanos(seconds) ? seconds + 1 : seconds;
+		this.browser = sanitizeBrowser(ConfigurationManager.getOptionalProperty("browser"));
+		this.operatingSystem = sanitizeOperatingSystem(ConfigurationManager.getOptionalProperty("os"));
+		this.pollingStrategy = new PollingStrategy(parsePollingType(ConfigurationManager.getOptionalProperty("polling")),
+				Duration.ofMillis(parseMilliseconds(ConfigurationManager.getOptionalProperty("pollingInterval"), DEFAULT_POLLING_INTERVAL)),
+				Duration.ofMillis(parseMilliseconds(ConfigurationManager.getOptionalProperty("pollingMaxInterval"), DEFAULT_POLLING_MAX_INTERVAL)));
+		this.absenceWindow = Duration.ofMillis(parseMilliseconds(ConfigurationManager.getOptionalProperty("absenceWindow"), DEFAULT_ABSENCE_WINDOW));
+		this.keyInjector = new KeyInjector(parseKeyInjectionType(ConfigurationManager.getOptionalProperty("keyInjection")),
+				Duration.ofMillis(parseMilliseconds(ConfigurationManager.getOptionalProperty("keyDelay"), 0L)));
+		this.stepBudget = new StepBudget(parseCount(ConfigurationManager.getOptionalProperty("stepCommandBudget")),
+				Duration.ofMillis(parseMilliseconds(ConfigurationManager.getOptionalProperty("stepTimeBudget"), 0L)),
+				parseBudgetAction(ConfigurationManager.getOptionalProperty("budgetAction")));
+		this.tableScrapingScripted = !"ELEMENTS".equalsIgnoreCase(StringUtils.trim(ConfigurationManager.getOptionalProperty("tableScraping")));
+		this.tableScrollChunk = (int) Math.min(parseCount(ConfigurationManager.getOptionalProperty("tableScrollChunk")), Integer.MAX_VALUE);
+		long maxRows = parseCount(ConfigurationManager.getOptionalProperty("tableMaxRows"));
+		this.tableMaxRows = maxRows > 0 ? (int) Math.min(maxRows, Integer.MAX_VALUE) : DEFAULT_TABLE_MAX_ROWS;
+		this.tableScrollTimeout = parseMilliseconds(ConfigurationManager.getOptionalProperty("tableScrollTimeout"), DEFAULT_TABLE_SCROLL_TIMEOUT);
+	}
+
+	/**
+	 * Returns the environment this snapshot was resolved for.
+	 *
+	 * @return String the environment, or null if no environment was set
+	 */
+	public String getEnvironment() {
+		return environment;
+	}
+
+	/**
+	 * Returns the value of the timeout property, measured in the unit returned by getTimeUnit().
+	 * The default if the property is not set is 10.
+	 *
+	 * @return long the timeout
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Returns the value of the timeunit property. The default if the property is not set is TimeUnit.SECONDS.
+	 *
+	 * @return java.util.concurrent.TimeUnit the time unit
+	 */
+	public TimeUnit getTimeUnit() {
+		return timeUnit;
+	}
+
+	/**
+	 * Returns the default timeout as a Duration, taking the timeunit property into account.
+	 *
+	 * @return java.time.Duration the default timeout
+	 */
+	public Duration getDefaultTimeout() {
+		return defaultTimeout;
+	}
+
+	/**
+	 * Returns the default timeout in whole seconds, rounded up, for Selenium APIs that only accept seconds.
+	 *
+	 * @return long the default timeout in seconds
+	 */
+	public long getDefaultTimeoutInSeconds() {
+		return defaultTimeoutInSeconds;
+	}
+
+	/**
+	 * Returns a sanitized version of the browser set in the config file or on the command line.
+	 * Spaces are removed, the value is lower case and "ie" is expanded to "internetexplorer".
+	 *
+	 * @return String a sanitized string containing the browser
+	 * @throws ConfigurationNotFoundException if the browser property has not been set
+	 */
+	public String getBrowser() throws ConfigurationNotFoundException {
+		if (browser == null) {
+			throw new ConfigurationNotFoundException(StringUtils.format("The browser property could not be found for the {} environment. Please set it in the configuration file or pass it on the command line using -Dbrowser=", environment));
+		}
+		return browser;
+	}
+
+	/**
+	 * Returns a sanitized version of the operating system set in the config file or on the command line.
+	 * Spaces are removed, the value is lower case, and common aliases are changed to "mac" and "windows".
+	 *
+	 * @return String a sanitized string containing the operating system
+	 * @throws ConfigurationNotFoundException if the os property has not been set
+	 */
+	public String getOperatingSystem() throws ConfigurationNotFoundException {
+		if (operatingSystem == null) {
+			throw new ConfigurationNotFoundException(StringUtils.format("The os property could not be found for the {} environment. Please set it in the configuration file or pass it on the command line using -Dos=", environment));
+		}
+		return operatingSystem;
+	}
+
+	/**
+	 * Returns the strategy used to space out the checks made while waiting for an element, set with the
+	 * polling, pollingInterval and pollingMaxInterval properties. The default is a fixed 10 millisecond interval.
+	 *
+	 * @return PollingStrategy the default polling strategy
+	 */
+	public PollingStrategy getPollingStrategy() {
+		return pollingStrategy;
+	}
+
+	/**
+	 * Returns how long to wait for an element to go away before deciding that it exists, set with the
+	 * absenceWindow property in milliseconds. The default is 250 milliseconds.
+	 *
+	 * @return java.time.Duration the absence window
+	 */
+	public Duration getAbsenceWindow() {
+		return absenceWindow;
+	}
+
+	/**
+	 * Returns the key injector used by PageElement.pressKeys(), set with the keyInjection and keyDelay
+	 * properties. The default presses keys with WebDriver Actions and no delay between keys.
+	 *
+	 * @return KeyInjector the default key injector
+	 */
+	public KeyInjector getKeyInjector() {
+		return keyInjector;
+	}
+
+	/**
+	 * Returns the budget every step is checked against, set with the stepCommandBudget, stepTimeBudget and
+	 * budgetAction properties. By default steps are not limited.
+	 *
+	 * @return StepBudget the default step budget
+	 */
+	public StepBudget getStepBudget() {
+		return stepBudget;
+	}
+
+	/**
+	 * Returns true if tables are read with a single script call, which is the default. Set the tableScraping
+	 * property to elements to read tables one cell at a time instead.
+	 *
+	 * @return boolean true if tables are read with a script
+	 */
+	public boolean isTableScrapingScripted() {
+		return tableScrapingScripted;
+	}
+
+	/**
+	 * Returns how many rows a virtual scrolling table is scrolled at a time while it is read, set with the
+	 * tableScrollChunk property. The default of 0 scrolls one visible page of rows at a time.
+	 *
+	 * @return int the number of rows to scroll, or 0 to scroll by the height of the table
+	 */
+	public int getTableScrollChunk() {
+		return tableScrollChunk;
+	}
+
+	/**
+	 * Returns the most rows read from a virtual scrolling table, set with the tableMaxRows property. Defaults to 10,000.
+	 *
+	 * @return int the maximum number of rows
+	 */
+	public int getTableMaxRows() {
+		return tableMaxRows;
+	}
+
+	/**
+	 * Returns how long each scroll of a virtual scrolling table may take before reading it fails, set in
+	 * milliseconds with the tableScrollTimeout property. Defaults to 10 seconds. This is set as the script
+	 * timeout of the driver before the table is scrolled.
+	 *
+	 * @return long the timeout in milliseconds
+	 */
+	public long getTableScrollTimeout() {
+		return tableScrollTimeout;
+	}
+
+	/**
+	 * Returns the parsed timeout, or the default of 10 if the value is empty.
+	 *
+	 * @param value String the timeout property
+	 * @return long the timeout
+	 */
+	private static long parseTimeout(String value) {
+		if (StringUtils.isNotEmpty(value)) {
+			return Long.parseLong(value.trim());
+		}
+		return DEFAULT_TIMEOUT;
+	}
+
+	/**
+	 * Returns the TimeUnit for the given value, or TimeUnit.SECONDS if the value is empty or not recognized.
+	 * Possible values: DAYS, HOURS, MINUTES, SECONDS, MICROSECONDS, MILLISECONDS, NANOSECONDS
+	 *
+	 * @param value String the timeunit property
+	 * @return java.util.concurrent.TimeUnit the time unit
+	 */
+	private static TimeUnit parseTimeUnit(String value) {
+		if (StringUtils.isBlank(value)) {
+			return TimeUnit.SECONDS;
+		}
+		switch (value.trim().toUpperCase()) {
+		case "DAYS":
+			return TimeUnit.DAYS;
+		case "HOURS":
+			return TimeUnit.HOURS;
+		case "MINUTES":
+			return TimeUnit.MINUTES;
+		case "SECONDS":
+			return TimeUnit.SECONDS;
+		case "MICROSECONDS":
+			return TimeUnit.MICROSECONDS;
+		case "MILLISECONDS":
+			return TimeUnit.MILLISECONDS;
+		case "NANOSECONDS":
+			return TimeUnit.NANOSECONDS;
+		default:
+			return TimeUnit.SECONDS;
+		}
+	}
+
+	/**
+	 * Returns the PollingType for the given value, or PollingType.FIXED if the value is empty or not recognized.
+	 * Possible values: FIXED, EXPONENTIAL, JITTERED
+	 *
+	 * @param value String the polling property
+	 * @return PollingType the polling type
+	 */
+	private static PollingType parsePollingType(String value) {
+		if (StringUtils.isBlank(value)) {
+			return PollingType.FIXED;
+		}
+		switch (value.trim().toUpperCase()) {
+		case "EXPONENTIAL":
+			return PollingType.EXPONENTIAL;
+		case "JITTERED":
+			return PollingType.JITTERED;
+		default:
+			return PollingType.FIXED;
+		}
+	}
+
+	/**
+	 * Returns the KeyInjectionType for the given value, or KeyInjectionType.ACTIONS if the value is empty or not recognized.
+	 * Possible values: ACTIONS, JAVASCRIPT, ROBOT
+	 *
+	 * @param value String the keyInjection property
+	 * @return KeyInjectionType the key injection type
+	 */
+	private static KeyInjectionType parseKeyInjectionType(String value) {
+		if (StringUtils.isBlank(value)) {
+			return KeyInjectionType.ACTIONS;
+		}
+		switch (value.trim().toUpperCase()) {
+		case "JAVASCRIPT":
+			return KeyInjectionType.JAVASCRIPT;
+		case "ROBOT":
+			return KeyInjectionType.ROBOT;
+		default:
+			return KeyInjectionType.ACTIONS;
+		}
+	}
+
+	/**
+	 * Returns the BudgetAction for the given value, or BudgetAction.FAIL if the value is empty or not recognized.
+	 * Possible values: FAIL, WARN
+	 *
+	 * @param value String the budgetAction property
+	 * @return BudgetAction the budget action
+	 */
+	private static BudgetAction parseBudgetAction(String value) {
+		if (StringUtils.isBlank(value)) {
+			return BudgetAction.FAIL;
+		}
+		switch (value.trim().toUpperCase()) {
+		case "WARN":
+			return BudgetAction.WARN;
+		default:
+			return BudgetAction.FAIL;
+		}
+	}
+
+	/**
+	 * Returns the parsed number of milliseconds, or the given default if the value is empty.
+	 *
+	 * @param value String the property value
+	 * @param defaultValue long the value to use if the property is not set
+	 * @return long the number of milliseconds
+	 */
+	private static long parseMilliseconds(String value, long defaultValue) {
+		if (StringUtils.isNotEmpty(value)) {
+			return Long.parseLong(value.trim());
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * Returns the parsed count, or 0 if the value is empty.
+	 *
+	 * @param value String the property value
+	 * @return long the count
+	 */
+	private static long parseCount(String value) {
+		if (StringUtils.isNotEmpty(value)) {
+			return Long.parseLong(value.trim());
+		}
+		return 0L;
+	}
+
+	/**
+	 * Returns the browser name with spaces removed and in lower case.
+	 *
+	 * @param value String the browser property
+	 * @return String the sanitized browser name, or null if the value is null
+	 */
+	private static String sanitizeBrowser(String value) {
+		if (value == null) {
+			return null;
+		}
+		String browserName = StringUtils.deleteWhitespace(value).toLowerCase();
+		if (browserName.equals("ie"))
+			browserName = "internetexplorer";
+		return browserName;
+	}
+
+	/**
+	 * Returns the operating system name with spaces removed, in lower case and with aliases resolved.
+	 *
+	 * @param value String the os property
+	 * @return String the sanitized operating system, or null if the value is null
+	 */
+	private static String sanitizeOperatingSystem(String value) {
+		if (value == null) {
+			return null;
+		}
+		String os = StringUtils.deleteWhitespace(value).toLowerCase();
+		if (os.equals("macintosh") || os.equals("osx"))
+			os = "mac";
+		else if (os.equals("win"))
+			os = "windows";
+		return os;
+	}
+}
@@ -0,0 +1,44 @@
+package com.dougnoel.sentinel.configurations;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+/**
+ * Shared Jackson mappers for all YAML and JSON parsing in Sentinel.
+ * <p>
+ * Creating an ObjectMapper is cheap, but each new mapper starts with empty serializer and deserializer
+ * caches, which are expensive to rebuild. The mappers here are configured once when the class is loaded
+ * and are thread safe for reading and writing after that. Do not call configure() or register modules on
+ * them; create a copy() if a different configuration is needed.
+ */
+public class ObjectMappers {
+	private static final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory())
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	private static final ObjectMapper jsonMapper = new ObjectMapper()
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private ObjectMappers() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Returns the shared mapper used for sentinel.yml and page object YAML files.
+	 * Unknown properties are ignored.
+	 *
+	 * @return ObjectMapper the shared YAML mapper
+	 */
+	public static ObjectMapper getYamlMapper() {
+		return yamlMapper;
+	}
+
+	/**
+	 * Returns the shared mapper used for JSON, such as API responses.
+	 * Unknown properties are ignored.
+	 *
+	 * @return ObjectMapper the shared JSON mapper
+	 */
+	public static ObjectMapper getJsonMapper() {
+		return jsonMapper;
+	}
+}
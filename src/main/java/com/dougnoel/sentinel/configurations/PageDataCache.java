@@ -0,0 +1,105 @@
+package com.dougnoel.sentinel.configurations;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dougnoel.sentinel.pages.PageData;
+
+/**
+ * Cache of parsed PageData objects keyed by page name. Page object YAML files are read several times
+ * per step (url, account and test data lookups), so parsing them once and reusing the result avoids
+ * repeated disk reads and YAML parsing.
+ * <p>
+ * Each entry remembers the file it was loaded from and that file's last modified time. If the file
+ * changes on disk, the entry is treated as a miss and the file is parsed again.
+ */
+public class PageDataCache {
+	private static final Logger log = LogManager.getLogger(PageDataCache.class); // Create a logger.
+
+	private static final Map<String, CachedPageData> pageDataCache = new ConcurrentHashMap<>();
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+
+	private PageDataCache() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Returns the cached PageData for the given page if it was loaded from the given file and the
+	 * file has not been modified since. Otherwise returns null so the caller can load and store it.
+	 *
+	 * @param pageName String the name of the page object
+	 * @param file File the page object configuration file
+	 * @return PageData the cached page data, or null if there is no current entry
+	 */
+	public static PageData get(String pageName, File file) {
+		CachedPageData cached = pageDataCache.get(pageName);
+		if (cached != null && cached.file.equals(file) && cached.lastModified == file.lastModified()) {
+			hits.incrementAndGet();
+			log.trace("Page data cache hit: {}", pageName);
+			return cached.pageData;
+		}
+		misses.incrementAndGet();
+		log.trace("Page data cache miss: {}", pageName);
+		return null;
+	}
+
+	/**
+	 * Stores the PageData for the given page along with the file it was loaded from.
+	 *
+	 * @param pageName String the name of the page object
+	 * @param file File the page object configuration file the data was loaded from
+	 * @param lastModified long the last modified time of the file, read before the file was parsed
+	 * @param pageData PageData the parsed page data
+	 */
+	public static void put(String pageName, File file, long lastModified, PageData pageData) {
+		pageDataCache.put(pageName, new CachedPageData(file, lastModified, pageData));
+	}
+
+	/**
+	 * Removes all cached page data and resets the hit and miss counters.
+	 */
+	public static void clear() {
+		pageDataCache.clear();
+		hits.set(0);
+		misses.set(0);
+	}
+
+	/**
+	 * Returns the number of lookups that were answered from the cache.
+	 *
+	 * @return long the number of cache hits
+	 */
+	public static long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of lookups that required the page object file to be parsed.
+	 *
+	 * @return long the number of cache misses
+	 */
+	public static long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * A parsed PageData object and the file state it was parsed from.
+	 */
+	private static class CachedPageData {
+		private final File file;
+		private final long lastModified;
+		private final PageData pageData;
+
+		private CachedPageData(File file, long lastModified, PageData pageData) {
+			this.file = file;
+			this.lastModified = lastModified;
+			this.pageData = pageData;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package com.dougnoel.sentinel.configurations;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dougnoel.sentinel.exceptions.AccessDeniedException;
+import com.dougnoel.sentinel.exceptions.ConfigurationMappingException;
+import com.dougnoel.sentinel.exceptions.ConfigurationNotFoundException;
+import com.dougnoel.sentinel.exceptions.IOException;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * Index of page object configuration files, mapping a page name to the YAML file that defines it.
+ * <p>
+ * The index is built the first time a page object file is requested by walking the source tree
+ * once and keeping every .yml file that lives under one of the configured pageObjectPackages.
+ * Every lookup after that is a single map access instead of a recursive directory search.
+ * <p>
+ * If two files in the page object packages share the same name, the conflict is logged when the
+ * index is built and a ConfigurationMappingException is thrown when that page is requested, since
+ * there is no way to know which file was intended.
+ */
+public class PageObjectFileIndex {
+	private static final Logger log = LogManager.getLogger(PageObjectFileIndex.class); // Create a logger.
+
+	private static final String SOURCE_DIRECTORY = "src/";
+	private static final String FILE_EXTENSION = ".yml";
+
+	private static volatile Map<String, File> pageObjectFiles = null;
+	private static volatile Map<String, List<File>> duplicateFiles = null;
+
+	private PageObjectFileIndex() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Returns the YAML configuration file for the given page name, building the index on first use.
+	 *
+	 * @param pageName String the name of the page object
+	 * @return File the absolute path to the page object configuration file, or null if it is not indexed
+	 * @throws ConfigurationMappingException if more than one file with the page name exists in the page object packages
+	 * @throws ConfigurationNotFoundException if the pageObjectPackages property is not set or the source tree cannot be read
+	 */
+	public static File getPageObjectFile(String pageName) throws ConfigurationNotFoundException {
+		if (pageObjectFiles == null) {
+			buildIndex();
+		}
+		List<File> duplicates = duplicateFiles.get(pageName);
+		if (duplicates != null) {
+			String errorMessage = StringUtils.format("The {}{} configuration file exists in more than one location: {}. Please rename or remove one of them so the page object can be loaded.", pageName, FILE_EXTENSION, duplicates);
+			log.error(errorMessage);
+			throw new ConfigurationMappingException(errorMessage);
+		}
+		return pageObjectFiles.get(pageName);
+	}
+
+	/**
+	 * Clears the index so that it will be rebuilt on the next lookup. Intended for use when page object
+	 * files are added or moved while tests are running.
+	 */
+	public static synchronized void clear() {
+		pageObjectFiles = null;
+		duplicateFiles = null;
+	}
+
+	/**
+	 * Walks the source tree once and indexes every page object configuration file found in the configured
+	 * page object packages.
+	 *
+	 * @throws ConfigurationNotFoundException if the pageObjectPackages property is not set or the source tree cannot be read
+	 */
+	private static synchronized void buildIndex() throws ConfigurationNotFoundException {
+		if (pageObjectFiles != null) {
+			return;
+		}
+		List<String> packageDirectories = new ArrayList<>();
+		for (String pageObjectPackage : ConfigurationManager.getPageObjectPackageList()) {
+			packageDirectories.add("/" + StringUtils.replace(pageObjectPackage.trim(), ".", "/") + "/");
+		}
+
+		Map<String, File> files = new HashMap<>();
+		Map<String, List<File>> duplicates = new HashMap<>();
+		Path sourceDirectory = Paths.get(SOURCE_DIRECTORY);
+		long startTime = System.currentTimeMillis();
+		try (Stream<Path> paths = Files.walk(sourceDirectory)) {
+			paths.filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION))
+				.filter(path -> isInPageObjectPackage(sourceDirectory.relativize(path), packageDirectories))
+				.forEach(path -> {
+					String fileName = path.getFileName().toString();
+					String pageName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+					File file = path.toFile().getAbsoluteFile();
+					File existing = files.putIfAbsent(pageName, file);
+					if (existing != null) {
+						duplicates.computeIfAbsent(pageName, k -> new ArrayList<>(Collections.singletonList(existing))).add(file);
+					}
+				});
+		} catch (UncheckedIOException e) {
+			if (e.getCause() instanceof java.nio.file.AccessDeniedException) {
+				throw new AccessDeniedException(e.getCause().getMessage());
+			}
+			String errorMessage = StringUtils.format("Could not read the {} directory while searching for page object files: {}", sourceDirectory.toAbsolutePath(), e.getMessage());
+			log.error(errorMessage);
+			throw new IOException(errorMessage, e);
+		} catch (java.io.IOException e) {
+			String errorMessage = StringUtils.format("Could not read the {} directory while searching for page object files: {}", sourceDirectory.toAbsolutePath(), e.getMessage());
+			log.error(errorMessage);
+			throw new IOException(errorMessage, e);
+		}
+
+		for (Map.Entry<String, List<File>> duplicate : duplicates.entrySet()) {
+			log.error("The {}{} configuration file exists in more than one location: {}", duplicate.getKey(), FILE_EXTENSION, duplicate.getValue());
+		}
+		log.debug("Indexed {} page object files in {} milliseconds.", files.size(), System.currentTimeMillis() - startTime);
+		duplicateFiles = duplicates;
+		pageObjectFiles = files;
+	}
+
+	/**
+	 * Returns true if the given file path is located in or below one of the page object package directories.
+	 *
+	 * @param relativePath Path the path of the file relative to the source directory
+	 * @param packageDirectories List&lt;String&gt; the page object packages as directory fragments (e.g. /pages/)
+	 * @return boolean true if the file belongs to a page object package, false otherwise
+	 */
+	private static boolean isInPageObjectPackage(Path relativePath, List<String> packageDirectories) {
+		Path parent = relativePath.getParent();
+		if (parent == null) {
+			return false;
+		}
+		String directory = "/" + parent.toString().replace(File.separatorChar, '/') + "/";
+		for (String packageDirectory : packageDirectories) {
+			if (directory.contains(packageDirectory)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,276 @@
+package com.dougnoel.sentinel.configurations;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dougnoel.sentinel.exceptions.ConfigurationNotFoundException;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * Registry of the page object and API classes found in the configured pageObjectPackages.
+ * <p>
+ * The first time a class is requested, each package is scanned once on the classpath (both directories and
+ * jar files) and the simple name of every top level class is mapped to its fully qualified name. If the same
+ * simple name exists in more than one package, the package listed first in pageObjectPackages wins, which is
+ * the order the packages were searched in before.
+ * <p>
+ * Each name is resolved to a no-argument constructor the first time it is requested, and the result is cached
+ * whether or not a class was found. Creating a page or API after that is a map lookup and a constructor call.
+ * If a name is not found by the scan, for example because a class loader does not expose its contents, each
+ * package is tried once with Class.forName before the miss is cached.
+ */
+public class PageObjectRegistry {
+	private static final Logger log = LogManager.getLogger(PageObjectRegistry.class); // Create a logger.
+
+	private static final String CLASS_EXTENSION = ".class";
+
+	private static volatile String[] pageObjectPackages = null;
+	private static volatile Map<String, String> classNames = null;
+	private static final Map<Class<?>, Map<String, Optional<Constructor<?>>>> constructors = new ConcurrentHashMap<>();
+
+	private PageObjectRegistry() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Returns a new instance of the class with the given simple name found in the page object packages, or null
+	 * if no class with that name and type exists or it cannot be created. If the constructor of the class throws
+	 * an exception, that exception is logged and rethrown, wrapped in a ConfigurationNotFoundException if it is
+	 * a checked exception.
+	 *
+	 * @param <T> the type of object to create, e.g. Page or API
+	 * @param name String the simple name of the class, e.g. LoginPage
+	 * @param type Class&lt;T&gt; the type the class must extend
+	 * @return T the new object, or null if it could not be created
+	 * @throws ConfigurationNotFoundException if the pageObjectPackages property is not set, or the constructor throws a checked exception
+	 */
+	public static <T> T newInstance(String name, Class<T> type) throws ConfigurationNotFoundException {
+		if (classNames == null) {
+			buildRegistry();
+		}
+		Map<String, Optional<Constructor<?>>> typeConstructors = constructors.computeIfAbsent(type, k -> new ConcurrentHashMap<>());
+		Optional<Constructor<?>> constructor = typeConstructors.get(name);
+		if (constructor == null) {
+			constructor = Optional.ofNullable(findConstructor(name, type));
+			typeConstructors.put(name, constructor);
+		}
+		if (!constructor.isPresent()) {
+			return null;
+		}
+
+		try {
+			return type.cast(constructor.get().newInstance());
+		} catch (InstantiationException | IllegalAccessException e) {
+			log.trace("{} {} object creation failed.", constructor.get().getDeclaringClass().getName(), type.getSimpleName());
+			log.trace("{}: {}", e.getClass().getName(), e.getMessage());
+		} catch (InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			String errorMessage = StringUtils.format("{} {} object creation failed. {}: {}", constructor.get().getDeclaringClass().getName(),
+					type.getSimpleName(), cause.getClass().getName(), cause.getMessage());
+			log.error(errorMessage);
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new ConfigurationNotFoundException(errorMessage, cause);
+		}
+		return null;
+	}
+
+	/**
+	 * Clears the registry so that the packages are scanned again on the next lookup.
+	 */
+	public static synchronized void clear() {
+		classNames = null;
+		pageObjectPackages = null;
+		constructors.clear();
+	}
+
+	/**
+	 * Returns the no-argument constructor of the named class if it exists and extends the given type.
+	 *
+	 * @param name String the simple name of the class
+	 * @param type Class&lt;?&gt; the type the class must extend
+	 * @return Constructor&lt;?&gt; the constructor, or null if no suitable class was found
+	 */
+	private static Constructor<?> findConstructor(String name, Class<?> type) {
+		ClassLoader loader = getClassLoader();
+		String className = classNames.get(name);
+		if (className != null) {
+			Constructor<?> constructor = getConstructor(className, type, loader);
+			if (constructor != null) {
+				return constructor;
+			}
+		}
+		for (String pageObjectPackage : pageObjectPackages) {
+			String candidate = pageObjectPackage + "." + name;
+			if (!candidate.equals(className)) {
+				Constructor<?> constructor = getConstructor(candidate, type, loader);
+				if (constructor != null) {
+					return constructor;
+				}
+			}
+		}
+		log.trace("No {} named {} was found in the page object packages.", type.getSimpleName(), name);
+		return null;
+	}
+
+	/**
+	 * Returns the public no-argument constructor of the given class, or null if the class does not exist,
+	 * does not extend the given type or cannot be instantiated.
+	 *
+	 * @param className String the fully qualified class name
+	 * @param type Class&lt;?&gt; the type the class must extend
+	 * @param loader ClassLoader the class loader to load the class with
+	 * @return Constructor&lt;?&gt; the constructor, or null if it cannot be used
+	 */
+	private static Constructor<?> getConstructor(String className, Class<?> type, ClassLoader loader) {
+		try {
+			Class<?> clazz = Class.forName(className, false, loader);
+			if (!type.isAssignableFrom(clazz) || Modifier.isAbstract(clazz.getModifiers())) {
+				return null;
+			}
+			return clazz.getConstructor();
+		} catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+			log.trace("{} could not be loaded: {}", className, e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Scans each page object package once and maps the simple name of every top level class to its fully
+	 * qualified name.
+	 *
+	 * @throws ConfigurationNotFoundException if the pageObjectPackages property is not set
+	 */
+	private static synchronized void buildRegistry() throws ConfigurationNotFoundException {
+		if (classNames != null) {
+			return;
+		}
+		String[] packages = ConfigurationManager.getPageObjectPackageList();
+		if (packages == null) {
+			throw new ConfigurationNotFoundException("At least one Page object package is required to run a test. Please add a pageObjectPackages property to your conf/sentinel.yml configuration file and try again.");
+		}
+		for (int i = 0; i < packages.length; i++) {
+			packages[i] = packages[i].trim();
+		}
+
+		long startTime = System.currentTimeMillis();
+		Map<String, String> names = new HashMap<>();
+		ClassLoader loader = getClassLoader();
+		for (String pageObjectPackage : packages) {
+			scanPackage(pageObjectPackage, loader, names);
+		}
+		log.debug("Registered {} classes from the page object packages in {} milliseconds.", names.size(), System.currentTimeMillis() - startTime);
+		pageObjectPackages = packages;
+		classNames = names;
+	}
+
+	/**
+	 * Adds every top level class found directly in the given package to the map of names, unless a class with
+	 * the same simple name was already found in an earlier package.
+	 *
+	 * @param packageName String the package to scan
+	 * @param loader ClassLoader the class loader to search
+	 * @param names Map&lt;String,String&gt; simple class names mapped to fully qualified class names
+	 */
+	private static void scanPackage(String packageName, ClassLoader loader, Map<String, String> names) {
+		String packagePath = packageName.replace('.', '/');
+		try {
+			Enumeration<URL> resources = loader.getResources(packagePath);
+			while (resources.hasMoreElements()) {
+				URL resource = resources.nextElement();
+				if ("file".equals(resource.getProtocol())) {
+					scanDirectory(new File(URLDecoder.decode(resource.getFile(), "UTF-8")), packageName, names);
+				} else if ("jar".equals(resource.getProtocol())) {
+					scanJar(resource, packagePath, names);
+				} else {
+					log.trace("Cannot scan {} for page objects, classes will be looked up by name.", resource);
+				}
+			}
+		} catch (java.io.IOException e) {
+			log.debug("The {} package could not be scanned, classes will be looked up by name: {}", packageName, e.getMessage());
+		}
+	}
+
+	/**
+	 * Adds the top level classes in a classpath directory to the map of names.
+	 *
+	 * @param directory File the directory for the package
+	 * @param packageName String the package name
+	 * @param names Map&lt;String,String&gt; simple class names mapped to fully qualified class names
+	 */
+	private static void scanDirectory(File directory, String packageName, Map<String, String> names) {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			addClassName(file.getName(), packageName, names);
+		}
+	}
+
+	/**
+	 * Adds the top level classes of a package inside a jar file to the map of names.
+	 *
+	 * @param resource URL the jar URL for the package
+	 * @param packagePath String the package name as a path, e.g. com/example/pages
+	 * @param names Map&lt;String,String&gt; simple class names mapped to fully qualified class names
+	 * @throws java.io.IOException if the jar file cannot be read
+	 */
+	private static void scanJar(URL resource, String packagePath, Map<String, String> names) throws java.io.IOException {
+		JarURLConnection connection = (JarURLConnection) resource.openConnection();
+		connection.setUseCaches(false);
+		try (JarFile jarFile = connection.getJarFile()) {
+			String prefix = packagePath + "/";
+			Enumeration<JarEntry> entries = jarFile.entries();
+			while (entries.hasMoreElements()) {
+				String entryName = entries.nextElement().getName();
+				if (entryName.startsWith(prefix) && entryName.indexOf('/', prefix.length()) == -1) {
+					addClassName(entryName.substring(prefix.length()), packagePath.replace('/', '.'), names);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the class file to the map of names if it is a top level class.
+	 *
+	 * @param fileName String the class file name, e.g. LoginPage.class
+	 * @param packageName String the package name
+	 * @param names Map&lt;String,String&gt; simple class names mapped to fully qualified class names
+	 */
+	private static void addClassName(String fileName, String packageName, Map<String, String> names) {
+		if (fileName.endsWith(CLASS_EXTENSION) && fileName.indexOf('$') == -1) {
+			String simpleName = fileName.substring(0, fileName.length() - CLASS_EXTENSION.length());
+			names.putIfAbsent(simpleName, packageName + "." + simpleName);
+		}
+	}
+
+	/**
+	 * Returns the class loader used to find page object classes.
+	 *
+	 * @return ClassLoader the context class loader, or the loader of this class if none is set
+	 */
+	private static ClassLoader getClassLoader() {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		return loader == null ? PageObjectRegistry.class.getClassLoader() : loader;
+	}
+}
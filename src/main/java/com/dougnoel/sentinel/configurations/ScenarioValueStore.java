@@ -0,0 +1,70 @@
+package com.dougnoel.sentinel.configurations;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dougnoel.sentinel.strings.NameNormalizer;
+
+/**
+ * Stores values between the steps of a scenario, such as text entered in one step and verified in a later one.
+ * <p>
+ * Each thread gets its own namespace so scenarios running in parallel cannot see or overwrite each other's
+ * values. Keys are normalized the same way element names are, so "Last Name" and "last_name" are the same key.
+ * The values for a thread are removed when its scenario ends.
+ *
+ * @see com.dougnoel.sentinel.strings.NameNormalizer
+ * @see com.dougnoel.sentinel.steps.BaseSteps#after(cucumber.api.Scenario)
+ */
+public class ScenarioValueStore {
+	private static final Logger log = LogManager.getLogger(ScenarioValueStore.class); // Create a logger.
+
+	private static final Map<Long, Map<String, String>> namespaces = new ConcurrentHashMap<>();
+
+	private ScenarioValueStore() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Stores the value under the given key for the current scenario.
+	 *
+	 * @param key String the key to set
+	 * @param value String the value to set
+	 */
+	public static void setValue(String key, String value) {
+		key = NameNormalizer.normalize(key);
+		Map<String, String> values = namespaces.computeIfAbsent(Thread.currentThread().getId(), k -> new ConcurrentHashMap<>());
+		if (value == null) {
+			values.remove(key);
+		} else {
+			values.put(key, value);
+		}
+		log.trace("Stored key/value pair: {}/{}", key, value);
+	}
+
+	/**
+	 * Returns the value stored under the given key for the current scenario.
+	 *
+	 * @param key String the key to get
+	 * @return String the value for the given key, or null if nothing has been stored
+	 */
+	public static String getValue(String key) {
+		key = NameNormalizer.normalize(key);
+		Map<String, String> values = namespaces.get(Thread.currentThread().getId());
+		String value = values == null ? null : values.get(key);
+		log.trace("Retrieved key/value pair: {}/{}", key, value);
+		return value;
+	}
+
+	/**
+	 * Removes all values stored for the current scenario.
+	 */
+	public static void clear() {
+		Map<String, String> values = namespaces.remove(Thread.currentThread().getId());
+		if (values != null) {
+			log.trace("Cleared {} stored values.", values.size());
+		}
+	}
+}
@@ -18,4 +18,13 @@ public class Button extends PageElement {
 		super(selectorType, selectorValue);
 	}
 
+	/**
+	 * Implementation of a Button that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public Button(Selector... selectors) {
+		super(selectors);
+	}
+
 }
@@ -0,0 +1,202 @@
+package com.dougnoel.sentinel.elements;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.dougnoel.sentinel.enums.SortType;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * Creates the comparators used to check that the cells of a table column are sorted.
+ * <p>
+ * Each SortType is mapped to a factory that creates its comparator from an optional pattern. For DATE the
+ * pattern is a java.time pattern such as "MM/dd/yyyy", and defaults to "yyyy-MM-dd" with an optional time.
+ * For NUMERIC and CURRENCY it is a language tag such as "de-DE" that decides the decimal and grouping
+ * separators, and defaults to "en-US". The other types ignore it. A different comparator can be used for
+ * a sort type by registering a factory for it with register().
+ * <p>
+ * The NUMERIC, CURRENCY and DATE comparators throw an IllegalArgumentException for a cell they cannot read.
+ *
+ * @see com.dougnoel.sentinel.elements.Table#setColumnSortType(String, SortType, String)
+ */
+public class CellComparators {
+	private static final String DEFAULT_DATE_PATTERN = "yyyy-MM-dd['T'HH:mm[:ss]]";
+	private static final String DEFAULT_LOCALE = "en-US";
+
+	private static volatile Map<SortType, Function<String, Comparator<String>>> factories = defaultFactories();
+
+	private CellComparators() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Returns the comparator for a sort type using its default pattern.
+	 *
+	 * @param sortType SortType how to compare cells
+	 * @return Comparator&lt;String&gt; the comparator, in ascending order
+	 */
+	public static Comparator<String> get(SortType sortType) {
+		return get(sortType, null);
+	}
+
+	/**
+	 * Returns the comparator for a sort type.
+	 *
+	 * @param sortType SortType how to compare cells
+	 * @param pattern String the date pattern or language tag, or null for the default
+	 * @return Comparator&lt;String&gt; the comparator, in ascending order
+	 * @throws IllegalArgumentException if no factory is registered for the sort type or the pattern is not valid
+	 */
+	public static Comparator<String> get(SortType sortType, String pattern) {
+		Function<String, Comparator<String>> factory = sortType == null ? null : factories.get(sortType);
+		if (factory == null) {
+			throw new IllegalArgumentException(StringUtils.format("No comparator is registered for the sort type {}.", sortType));
+		}
+		return factory.apply(StringUtils.isBlank(pattern) ? null : pattern.trim());
+	}
+
+	/**
+	 * Registers the factory used to create comparators for a sort type, replacing any existing one.
+	 *
+	 * @param sortType SortType the sort type
+	 * @param factory Function&lt;String, Comparator&lt;String&gt;&gt; creates a comparator from a pattern, which may be null
+	 */
+	public static synchronized void register(SortType sortType, Function<String, Comparator<String>> factory) {
+		Map<SortType, Function<String, Comparator<String>>> updated = new EnumMap<>(factories);
+		updated.put(sortType, factory);
+		factories = updated;
+	}
+
+	/**
+	 * Returns the factories for the built in sort types.
+	 *
+	 * @return Map&lt;SortType, Function&lt;String, Comparator&lt;String&gt;&gt;&gt; the default factories
+	 */
+	private static Map<SortType, Function<String, Comparator<String>>> defaultFactories() {
+		Map<SortType, Function<String, Comparator<String>>> defaults = new EnumMap<>(SortType.class);
+		defaults.put(SortType.TEXT, pattern -> Comparator.naturalOrder());
+		defaults.put(SortType.CASE_INSENSITIVE, pattern -> String.CASE_INSENSITIVE_ORDER);
+		defaults.put(SortType.NATURAL, pattern -> CellComparators::compareNatural);
+		defaults.put(SortType.NUMERIC, pattern -> Comparator.comparing(numberReader(pattern, false)));
+		defaults.put(SortType.CURRENCY, pattern -> Comparator.comparing(numberReader(pattern, true)));
+		defaults.put(SortType.DATE, pattern -> {
+			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern == null ? DEFAULT_DATE_PATTERN : pattern);
+			return Comparator.comparing(cell -> parseDate(cell, formatter));
+		});
+		return defaults;
+	}
+
+	/**
+	 * Compares two strings character by character, except that runs of digits are compared by their value.
+	 *
+	 * @param first String the first string
+	 * @param second String the second string
+	 * @return int a negative number, zero or a positive number as the first string sorts before, with or after the second
+	 */
+	static int compareNatural(String first, String second) {
+		int i = 0;
+		int j = 0;
+		while (i < first.length() && j < second.length()) {
+			char a = first.charAt(i);
+			char b = second.charAt(j);
+			if (Character.isDigit(a) && Character.isDigit(b)) {
+				int startA = i;
+				int startB = j;
+				while (i < first.length() && Character.isDigit(first.charAt(i))) {
+					i++;
+				}
+				while (j < second.length() && Character.isDigit(second.charAt(j))) {
+					j++;
+				}
+				String digitsA = stripLeadingZeros(first.substring(startA, i));
+				String digitsB = stripLeadingZeros(second.substring(startB, j));
+				int result = digitsA.length() != digitsB.length() ? digitsA.length() - digitsB.length() : digitsA.compareTo(digitsB);
+				if (result != 0) {
+					return result;
+				}
+			} else {
+				if (a != b) {
+					return a - b;
+				}
+				i++;
+				j++;
+			}
+		}
+		int result = (first.length() - i) - (second.length() - j);
+		return result != 0 ? result : first.compareTo(second);
+	}
+
+	private static String stripLeadingZeros(String digits) {
+		int start = 0;
+		while (start < digits.length() - 1 && digits.charAt(start) == '0') {
+			start++;
+		}
+		return digits.substring(start);
+	}
+
+	/**
+	 * Returns a function that reads the first number in a cell, e.g. 3.1 from "3.1 Miles". For currency, the
+	 * amount is negative if it is in parentheses or a minus sign comes before it, e.g. "(12.00)" or "-$12.00".
+	 * The function throws an IllegalArgumentException if a cell does not contain a number.
+	 *
+	 * @param languageTag String decides the decimal and grouping separators, or null for en-US
+	 * @param currency boolean true to read amounts of money
+	 * @return Function&lt;String, BigDecimal&gt; reads the number in a cell
+	 */
+	static Function<String, BigDecimal> numberReader(String languageTag, boolean currency) {
+		DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.forLanguageTag(languageTag == null ? DEFAULT_LOCALE : languageTag));
+		char decimal = currency ? symbols.getMonetaryDecimalSeparator() : symbols.getDecimalSeparator();
+		String grouping = String.valueOf(symbols.getGroupingSeparator());
+		Pattern number = Pattern.compile("-?\\d(?:\\d|" + Pattern.quote(grouping) + ")*(?:" + Pattern.quote(String.valueOf(decimal)) + "\\d+)?");
+		return cell -> {
+			String text = cell == null ? "" : cell.replace('\u2212', '-');
+			Matcher matcher = number.matcher(text);
+			if (!matcher.find()) {
+				throw new IllegalArgumentException(StringUtils.format("Could not read a number from \"{}\".", cell));
+			}
+			BigDecimal value = new BigDecimal(matcher.group().replace(grouping, "").replace(decimal, '.'));
+			if (currency && value.signum() > 0
+					&& ((text.contains("(") && text.contains(")")) || text.substring(0, matcher.start()).contains("-"))) {
+				value = value.negate();
+			}
+			return value;
+		};
+	}
+
+	/**
+	 * Reads a date, or a date and time, from a cell. A date without a time is read as the start of the day,
+	 * and a month without a day as the first of the month.
+	 *
+	 * @param cell String the text of the cell
+	 * @param formatter DateTimeFormatter the format of the date
+	 * @return LocalDateTime the date and time
+	 * @throws IllegalArgumentException if the cell cannot be read with the formatter
+	 */
+	static LocalDateTime parseDate(String cell, DateTimeFormatter formatter) {
+		try {
+			TemporalAccessor parsed = formatter.parseBest(cell == null ? "" : cell.trim(), LocalDateTime::from, LocalDate::from, YearMonth::from);
+			if (parsed instanceof LocalDateTime) {
+				return (LocalDateTime) parsed;
+			}
+			if (parsed instanceof LocalDate) {
+				return ((LocalDate) parsed).atStartOfDay();
+			}
+			return ((YearMonth) parsed).atDay(1).atStartOfDay();
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException(StringUtils.format("Could not read a date from \"{}\": {}", cell, e.getMessage()), e);
+		}
+	}
+}
@@ -17,6 +17,15 @@ public class Checkbox extends PageElement {
 	public Checkbox(SelectorType selectorType, String selectorValue){
 		super(selectorType, selectorValue);
 	}
+
+	/**
+	 * Implementation of a Checkbox that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public Checkbox(Selector... selectors) {
+		super(selectors);
+	}
 	
 	/**
 	 * Check a Checkbox PageElement. Created as an alias for click.
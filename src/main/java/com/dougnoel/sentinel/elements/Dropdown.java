@@ -17,5 +17,14 @@ public class Dropdown extends PageSelectElement {
 	public Dropdown(SelectorType selectorType, String selectorValue) {
 		super(selectorType, selectorValue);
 	}
+
+	/**
+	 * Implementation of a Dropdown that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public Dropdown(Selector... selectors) {
+		super(selectors);
+	}
 	
 }
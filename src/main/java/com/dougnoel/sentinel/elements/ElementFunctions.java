@@ -1,8 +1,5 @@
 package com.dougnoel.sentinel.elements;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -11,6 +8,8 @@ import com.dougnoel.sentinel.exceptions.PageNotFoundException;
 import com.dougnoel.sentinel.exceptions.SentinelException;
 import com.dougnoel.sentinel.pages.Page;
 import com.dougnoel.sentinel.pages.PageManager;
+import com.dougnoel.sentinel.reflection.MethodDispatchTable;
+import com.dougnoel.sentinel.strings.NameNormalizer;
 import com.dougnoel.sentinel.strings.StringUtils;
 
 /**
@@ -29,7 +28,14 @@ public abstract class ElementFunctions {
     /**
      * Returns a PageElement object for a given elementName string from current page. Gets current page reference, 
      * replaces page name space characters with '_'
+     * <p>
+     * The element method is called through a registry generated at compile time if one exists, or through the
+     * page's MethodDispatchTable, which is built once per page class. The element is cached on the page and
+     * reused until the browser navigates or an action such as a click changes the page. Elements that keep
+     * what they read from the page, such as tables, forget it each time they are reused, so every step sees
+     * the page as it is when the step runs.
      * 
+     * @see com.dougnoel.sentinel.reflection.MethodDispatchTable
      * @param elementName String name of requested element
      * @return PageElement the requested element
      * @throws PageNotFoundException if no page object found or defined.
@@ -37,27 +43,33 @@ public abstract class ElementFunctions {
      */
     public static PageElement getElement(String elementName) throws NoSuchElementException, PageNotFoundException {
         Page page = PageManager.getPage();
-        elementName = elementName.replaceAll("\\s+", "_").toLowerCase();
-        Method pageElementName = null;
-        try { // Create a Method object to store the PageElement we want to exercise;
-            pageElementName = page.getClass().getMethod(elementName);
-        } catch (NoSuchMethodException e) {
-            String errorMessage = StringUtils.format("Element {} is not defined for the page object {}. Make sure you have spelled the page object name correctly in your Cucumber step definition and in the page object.", elementName, page
-                    .getClass().getSimpleName());
-            log.error(errorMessage);
-            throw new NoSuchElementException(errorMessage, e);
+        elementName = NameNormalizer.normalize(elementName);
+        PageElement cachedElement = page.getCachedElement(elementName);
+        if (cachedElement != null) {
+            cachedElement.reused();
+            return cachedElement;
         }
-        PageElement element = null;
+        Object element = null;
         try {  // Invoke the creation of the PageElement and return it into a variable if no exception is thrown.
-            element = (PageElement) pageElementName.invoke(page);
-            log.trace("PageElement Name: " + pageElementName.getName());
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-        	String errorMessage = StringUtils.format("PageElement {} could not be found on Page {}. Please ensure the element is defined on the page.", pageElementName.getName(), page.getName());
+            element = MethodDispatchTable.invoke(page, elementName);
+        } catch (Error e) {
+        	throw e;
+        } catch (Throwable e) {
+        	String errorMessage = StringUtils.format("PageElement {} could not be found on Page {}. Please ensure the element is defined on the page.", elementName, page.getName());
         	log.error(errorMessage);
-        	throw new NoSuchElementException(errorMessage);
+        	throw new NoSuchElementException(errorMessage, e);
         } 
+        if (element == MethodDispatchTable.NOT_FOUND) {
+            String errorMessage = StringUtils.format("Element {} is not defined for the page object {}. Make sure you have spelled the page object name correctly in your Cucumber step definition and in the page object.", elementName, page
+                    .getClass().getSimpleName());
+            log.error(errorMessage);
+            throw new NoSuchElementException(errorMessage);
+        }
+        log.trace("PageElement Name: " + elementName);
+        ((PageElement) element).setName(page.getName() + "." + elementName);
+        page.cacheElement(elementName, (PageElement) element);
 
-        return element;
+        return (PageElement) element;
     }
 
     /**
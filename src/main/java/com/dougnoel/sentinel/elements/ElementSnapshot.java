@@ -0,0 +1,163 @@
+package com.dougnoel.sentinel.elements;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.Rectangle;
+
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * The state of a PageElement at one moment, gathered in a single executeScript call.
+ * <p>
+ * Checking an element with isDisplayed(), isEnabled(), isSelected(), getText() and getAttribute() costs
+ * one wire command each. A snapshot reads all of them, the class list, any requested attributes and the
+ * bounding box in one round trip. The values are not refreshed; take a new snapshot to see later changes.
+ * <p>
+ * <b>Note:</b> The values are computed in the browser and can differ from Selenium's in edge cases:
+ * <ul>
+ * <li>displayed is false for elements with display:none, visibility:hidden or opacity 0, or with no size
+ * and no client rectangles. Selenium's isDisplayed() also checks for overflow and elements moved off screen.</li>
+ * <li>text is the trimmed innerText of the element, which is what Selenium returns for visible elements.</li>
+ * <li>attributes are read with getAttribute() in the browser, so they are the HTML attribute values, not
+ * properties such as the current value of a text box.</li>
+ * </ul>
+ *
+ * @see com.dougnoel.sentinel.elements.PageElement#snapshot(String...)
+ */
+public class ElementSnapshot {
+	private final boolean displayed;
+	private final boolean enabled;
+	private final boolean selected;
+	private final String text;
+	private final List<String> classes;
+	private final Map<String, String> attributes;
+	private final Rectangle rect;
+
+	/**
+	 * Creates a snapshot from the object returned by the snapshot script.
+	 *
+	 * @param values Map&lt;String, Object&gt; the values returned by the browser
+	 */
+	@SuppressWarnings("unchecked")
+	protected ElementSnapshot(Map<String, Object> values) {
+		this.displayed = Boolean.TRUE.equals(values.get("displayed"));
+		this.enabled = Boolean.TRUE.equals(values.get("enabled"));
+		this.selected = Boolean.TRUE.equals(values.get("selected"));
+		this.text = values.get("text") == null ? "" : values.get("text").toString();
+
+		List<String> classList = new ArrayList<>();
+		Object classValues = values.get("classes");
+		if (classValues instanceof List) {
+			for (Object c : (List<Object>) classValues) {
+				classList.add(String.valueOf(c));
+			}
+		}
+		this.classes = Collections.unmodifiableList(classList);
+
+		Map<String, String> attributeMap = new HashMap<>();
+		Object attributeValues = values.get("attributes");
+		if (attributeValues instanceof Map) {
+			for (Map.Entry<String, Object> attribute : ((Map<String, Object>) attributeValues).entrySet()) {
+				attributeMap.put(attribute.getKey(), attribute.getValue() == null ? null : attribute.getValue().toString());
+			}
+		}
+		this.attributes = Collections.unmodifiableMap(attributeMap);
+
+		Map<String, Object> rectValues = values.get("rect") instanceof Map ? (Map<String, Object>) values.get("rect") : Collections.<String, Object>emptyMap();
+		this.rect = new Rectangle(toInt(rectValues.get("x")), toInt(rectValues.get("y")), toInt(rectValues.get("height")), toInt(rectValues.get("width")));
+	}
+
+	/**
+	 * Returns true if the element was displayed.
+	 *
+	 * @return boolean true if the element was displayed
+	 */
+	public boolean isDisplayed() {
+		return displayed;
+	}
+
+	/**
+	 * Returns true if the element was enabled.
+	 *
+	 * @return boolean true if the element was not disabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns true if the element was a selected option or a checked check box or radio button.
+	 *
+	 * @return boolean true if the element was selected
+	 */
+	public boolean isSelected() {
+		return selected;
+	}
+
+	/**
+	 * Returns the visible text of the element.
+	 *
+	 * @return String the text, or an empty string if the element has none
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns the classes set on the element.
+	 *
+	 * @return List&lt;String&gt; the classes, in the order they appear in the class attribute
+	 */
+	public List<String> getClasses() {
+		return classes;
+	}
+
+	/**
+	 * Returns true if the element had the given class.
+	 *
+	 * @param className String the class to look for
+	 * @return boolean true if the class was set on the element
+	 */
+	public boolean hasClass(String className) {
+		return classes.contains(className);
+	}
+
+	/**
+	 * Returns the value of an attribute requested when the snapshot was taken.
+	 *
+	 * @param name String the attribute name
+	 * @return String the value, or null if the element did not have the attribute or it was not requested
+	 */
+	public String getAttribute(String name) {
+		return attributes.get(name);
+	}
+
+	/**
+	 * Returns the position and size of the element relative to the viewport.
+	 *
+	 * @return org.openqa.selenium.Rectangle the bounding box of the element
+	 */
+	public Rectangle getRect() {
+		return rect;
+	}
+
+	/**
+	 * Returns the given number rounded to an int, or 0 if it is not a number.
+	 *
+	 * @param value Object the value returned by the browser
+	 * @return int the rounded value
+	 */
+	private static int toInt(Object value) {
+		return value instanceof Number ? (int) Math.round(((Number) value).doubleValue()) : 0;
+	}
+
+	@Override
+	public String toString() {
+		return StringUtils.format("displayed={}, enabled={}, selected={}, classes={}, attributes={}, text=\"{}\"",
+				displayed, enabled, selected, classes, attributes, text);
+	}
+}
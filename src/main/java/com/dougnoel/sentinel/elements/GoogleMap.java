@@ -18,4 +18,13 @@ public class GoogleMap extends Div {
 	public GoogleMap(SelectorType selectorType, String selectorValue) {
 		super(selectorType, selectorValue);
 	}
+
+	/**
+	 * Implementation of a GoogleMap that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public GoogleMap(Selector... selectors) {
+		super(selectors);
+	}
 }
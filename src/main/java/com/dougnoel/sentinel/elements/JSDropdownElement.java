@@ -26,6 +26,15 @@ public abstract class JSDropdownElement extends Dropdown {
 		super(selectorType, selectorValue);
 	}
 
+	/**
+	 * Implementation of a JSDropdownElement that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public JSDropdownElement(Selector... selectors) {
+		super(selectors);
+	}
+
 	/**
 	 * Returns a WebElement for an option with the given text.
 	 * @param selectionText String the text to be selected
@@ -49,6 +58,7 @@ public abstract class JSDropdownElement extends Dropdown {
      * @throws ElementNotFoundException if the element cannot be found
      */
     public PageSelectElement select(String selectionText) throws ElementNotFoundException{
+    	pageChanged();
     	getOption(selectionText).click();
         return this;
     }
@@ -60,6 +70,7 @@ public abstract class JSDropdownElement extends Dropdown {
      * @throws ElementNotFoundException if the element cannot be found
      */
     public PageSelectElement select(int index) throws  ElementNotFoundException{
+    	pageChanged();
     	getOption(index).click();        
         return this;
     }
@@ -0,0 +1,186 @@
+package com.dougnoel.sentinel.elements;
+
+import java.awt.AWTException;
+import java.awt.Robot;
+import java.awt.event.KeyEvent;
+import java.time.Duration;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import com.dougnoel.sentinel.enums.KeyInjectionType;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * Presses keys one at a time on an element that already has focus. Used by PageElement.pressKeys() for
+ * fields that grab each key press, such as masked inputs, where sendKeys() does not work.
+ * <p>
+ * ACTIONS sends every key press to the browser in a single Actions chain, with the delay as a pause
+ * between keys. JAVASCRIPT dispatches keydown, keypress, input and keyup events on the element and
+ * inserts the character itself unless a handler cancels it. Both work with headless browsers and remote
+ * drivers. ROBOT presses the keys through the operating system, which needs a display attached to the
+ * machine running the browser.
+ * <p>
+ * The default injector is set in sentinel.yml with the keyInjection and keyDelay properties. The delay is
+ * in milliseconds. An injector can be set for a single element with PageElement.setKeyInjector(), and
+ * this class can be extended to add other ways of pressing keys.
+ *
+ * @see com.dougnoel.sentinel.configurations.ConfigurationSnapshot#getKeyInjector()
+ * @see com.dougnoel.sentinel.elements.PageElement#setKeyInjector(KeyInjector)
+ */
+public class KeyInjector {
+	private static final Logger log = LogManager.getLogger(KeyInjector.class); // Create a logger.
+
+	// Presses each character of arguments[1] on the element arguments[0].
+	private static final String KEY_EVENT_SCRIPT =
+			"var e = arguments[0], text = arguments[1];" +
+			"for (var i = 0; i < text.length; i++) {" +
+			"var c = text.charAt(i), init = {key: c, char: c, bubbles: true, cancelable: true};" +
+			"var pressed = e.dispatchEvent(new KeyboardEvent('keydown', init)) && e.dispatchEvent(new KeyboardEvent('keypress', init));" +
+			"if (pressed && 'value' in e) {" +
+			"var start = e.value.length, end = e.value.length;" +
+			"try { if (typeof e.selectionStart === 'number') { start = e.selectionStart; end = e.selectionEnd; } } catch (x) {}" +
+			"e.value = e.value.slice(0, start) + c + e.value.slice(end);" +
+			"try { e.setSelectionRange(start + 1, start + 1); } catch (x) {}" +
+			"e.dispatchEvent(new Event('input', {bubbles: true}));" +
+			"} else if (pressed && e.isContentEditable) {" +
+			"document.execCommand('insertText', false, c);" +
+			"}" +
+			"e.dispatchEvent(new KeyboardEvent('keyup', init));" +
+			"}";
+
+	private final KeyInjectionType type;
+	private final long keyDelay;
+
+	/**
+	 * Creates a key injector. A negative delay is treated as zero.
+	 *
+	 * @param type KeyInjectionType how keys are pressed
+	 * @param keyDelay java.time.Duration the time to wait after each key
+	 */
+	public KeyInjector(KeyInjectionType type, Duration keyDelay) {
+		this.type = type == null ? KeyInjectionType.ACTIONS : type;
+		this.keyDelay = Math.max(0L, keyDelay.toMillis());
+	}
+
+	/**
+	 * Returns how keys are pressed.
+	 *
+	 * @return KeyInjectionType the key injection type
+	 */
+	public KeyInjectionType getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the time waited after each key.
+	 *
+	 * @return java.time.Duration the delay between keys
+	 */
+	public Duration getKeyDelay() {
+		return Duration.ofMillis(keyDelay);
+	}
+
+	/**
+	 * Presses each character of the text in turn on the given element.
+	 *
+	 * @param driver org.openqa.selenium.WebDriver the driver the element belongs to
+	 * @param element org.openqa.selenium.WebElement the element, which should already have focus
+	 * @param text String the keys to press
+	 * @throws AWTException if the ROBOT type is used and the platform does not allow key presses
+	 */
+	public void pressKeys(WebDriver driver, WebElement element, String text) throws AWTException {
+		log.debug("Pressing {} keys using {}.", text.length(), this);
+		switch (type) {
+		case JAVASCRIPT:
+			pressKeysWithJavaScript(driver, element, text);
+			break;
+		case ROBOT:
+			pressKeysWithRobot(text);
+			break;
+		case ACTIONS:
+		default:
+			pressKeysWithActions(driver, text);
+			break;
+		}
+	}
+
+	/**
+	 * Sends all key presses to the browser as one Actions chain, pausing between keys if a delay is set.
+	 *
+	 * @param driver org.openqa.selenium.WebDriver the driver to send the keys to
+	 * @param text String the keys to press
+	 */
+	protected void pressKeysWithActions(WebDriver driver, String text) {
+		Actions actions = new Actions(driver);
+		for (char c : text.toCharArray()) {
+			actions.sendKeys(String.valueOf(c));
+			if (keyDelay > 0) {
+				actions.pause(Duration.ofMillis(keyDelay));
+			}
+		}
+		actions.perform();
+	}
+
+	/**
+	 * Dispatches key events on the element from a script. Without a delay all keys are sent in one
+	 * script call; with a delay each key is sent separately and the delay is waited in between.
+	 *
+	 * @param driver org.openqa.selenium.WebDriver the driver to run the script with
+	 * @param element org.openqa.selenium.WebElement the element to dispatch the events on
+	 * @param text String the keys to press
+	 */
+	protected void pressKeysWithJavaScript(WebDriver driver, WebElement element, String text) {
+		JavascriptExecutor executor = (JavascriptExecutor) driver;
+		if (keyDelay == 0) {
+			executor.executeScript(KEY_EVENT_SCRIPT, element, text);
+			return;
+		}
+		for (char c : text.toCharArray()) {
+			executor.executeScript(KEY_EVENT_SCRIPT, element, String.valueOf(c));
+			pause();
+		}
+	}
+
+	/**
+	 * Presses and releases each key through the operating system, waiting the delay after each press
+	 * and release.
+	 *
+	 * @param text String the keys to press
+	 * @throws AWTException if the platform does not allow key presses, e.g. when there is no display
+	 */
+	protected void pressKeysWithRobot(String text) throws AWTException {
+		Robot robot = new Robot();
+		robot.delay((int) keyDelay);
+		for (char c : text.toCharArray()) {
+			log.debug(c);
+			robot.keyPress(KeyEvent.getExtendedKeyCodeForChar(c));
+			robot.delay((int) keyDelay);
+			robot.keyRelease(KeyEvent.getExtendedKeyCodeForChar(c));
+			robot.delay((int) keyDelay);
+		}
+	}
+
+	/**
+	 * Waits the key delay.
+	 */
+	private void pause() {
+		try {
+			Thread.sleep(keyDelay);
+		} catch (InterruptedException e) {
+			String message = StringUtils.format(
+					"Thread Interrupted: {}", e.getMessage());
+			log.error(message);
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return StringUtils.format("{} with {} ms between keys", type, keyDelay);
+	}
+}
@@ -17,4 +17,13 @@ public class Label extends PageElement {
 	public Label(SelectorType selectorType, String selectorValue) {
 		super(selectorType, selectorValue);
 	}
+
+	/**
+	 * Implementation of a Label that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public Label(Selector... selectors) {
+		super(selectors);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,288 @@
+package com.dougnoel.sentinel.elements;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dougnoel.sentinel.configurations.ConfigurationManager;
+import com.dougnoel.sentinel.enums.SelectorType;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * Records, for each page element and selector, how often the selector found the element, how often the
+ * lookup failed and how long it took.
+ * <p>
+ * The statistics are read from target/sentinel-locators.bin the first time they are needed and written back
+ * when the JVM exits, so they build up over runs. The file can be moved with the locatorStatistics property.
+ * Elements with several selectors try the selectors that have failed least first, and among those the
+ * fastest first. A selector with no history counts as never failing but slower than any that has found
+ * the element, so selectors that work keep being tried first and flaky ones move to the end.
+ * <p>
+ * When the statistics are saved, a report of the slowest lookups is written next to the file, e.g.
+ * target/sentinel-locators.txt, to show which page objects need better selectors.
+ */
+public class LocatorStatistics {
+	private static final Logger log = LogManager.getLogger(LocatorStatistics.class); // Create a logger.
+
+	private static final String DEFAULT_FILE = "target/sentinel-locators.bin";
+	/* Identifies the file format, "SLS" followed by the version number. */
+	private static final int FILE_FORMAT = 0x534C5301;
+	private static final int REPORT_SIZE = 25;
+
+	private static final Map<String, Map<Selector, Statistic>> statistics = new ConcurrentHashMap<>();
+	private static volatile File file = null;
+
+	private LocatorStatistics() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Records the result of looking up an element with a selector.
+	 *
+	 * @param elementName String the name of the element, including its page
+	 * @param selector Selector the selector used
+	 * @param nanos long how long the lookup took in nanoseconds
+	 * @param found boolean true if the selector found the element
+	 */
+	public static void record(String elementName, Selector selector, long nanos, boolean found) {
+		load();
+		statistics.computeIfAbsent(elementName, k -> new ConcurrentHashMap<>())
+			.computeIfAbsent(selector, k -> new Statistic())
+			.add(nanos, found);
+	}
+
+	/**
+	 * Returns the selectors in the order they should be tried: the ones that have failed least first, then
+	 * the fastest. Selectors with the same statistics, such as ones with no recorded lookups, keep their order.
+	 *
+	 * @param elementName String the name of the element, including its page
+	 * @param selectors List&lt;Selector&gt; the selectors in order of preference
+	 * @return List&lt;Selector&gt; the selectors in the order to try them
+	 */
+	public static List<Selector> order(String elementName, List<Selector> selectors) {
+		load();
+		Map<Selector, Statistic> elementStatistics = statistics.get(elementName);
+		if (elementStatistics == null) {
+			return selectors;
+		}
+		List<Selector> ordered = new ArrayList<>(selectors);
+		ordered.sort(Comparator.comparingDouble((Selector s) -> failureRate(elementStatistics.get(s)))
+				.thenComparingDouble(s -> averageNanos(elementStatistics.get(s))));
+		return ordered;
+	}
+
+	/**
+	 * Returns a report line for each of the slowest lookups, slowest average first.
+	 *
+	 * @param count int the maximum number of lookups to return
+	 * @return List&lt;String&gt; the slowest lookups
+	 */
+	public static List<String> getSlowestLookups(int count) {
+		load();
+		List<Map.Entry<String, Statistic>> lookups = new ArrayList<>();
+		for (Map.Entry<String, Map<Selector, Statistic>> element : statistics.entrySet()) {
+			for (Map.Entry<Selector, Statistic> selector : element.getValue().entrySet()) {
+				String name = StringUtils.format("{} using {}", element.getKey(), selector.getKey());
+				lookups.add(new AbstractMap.SimpleImmutableEntry<>(name, selector.getValue().copy()));
+			}
+		}
+		lookups.sort(Comparator.comparingDouble((Map.Entry<String, Statistic> lookup) -> averageNanos(lookup.getValue())).reversed());
+		List<String> report = new ArrayList<>();
+		for (Map.Entry<String, Statistic> lookup : lookups.subList(0, Math.min(count, lookups.size()))) {
+			Statistic statistic = lookup.getValue();
+			double average = averageNanos(statistic);
+			report.add(StringUtils.format("{}: average {} ms, max {} ms, {} lookups, {} failed", lookup.getKey(),
+					average == Double.MAX_VALUE ? "-" : TimeUnit.NANOSECONDS.toMillis((long) average),
+					TimeUnit.NANOSECONDS.toMillis(statistic.maxNanos), statistic.lookups, statistic.failures));
+		}
+		return report;
+	}
+
+	/**
+	 * Writes the statistics and the report of the slowest lookups to disk. Called when the JVM exits.
+	 */
+	public static synchronized void save() {
+		if (file == null) {
+			return;
+		}
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs()) {
+			log.warn("Could not create {} to save locator statistics.", parent);
+			return;
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(FILE_FORMAT);
+			List<Object[]> entries = new ArrayList<>();
+			for (Map.Entry<String, Map<Selector, Statistic>> element : statistics.entrySet()) {
+				for (Map.Entry<Selector, Statistic> selector : element.getValue().entrySet()) {
+					entries.add(new Object[] { element.getKey(), selector.getKey(), selector.getValue().copy() });
+				}
+			}
+			out.writeInt(entries.size());
+			for (Object[] entry : entries) {
+				Selector selector = (Selector) entry[1];
+				Statistic statistic = (Statistic) entry[2];
+				out.writeUTF((String) entry[0]);
+				out.writeUTF(selector.getType().name());
+				out.writeUTF(selector.getValue());
+				out.writeLong(statistic.lookups);
+				out.writeLong(statistic.failures);
+				out.writeLong(statistic.totalNanos);
+				out.writeLong(statistic.maxNanos);
+			}
+		} catch (IOException e) {
+			log.warn("Could not save locator statistics to {}: {}", file, e.getMessage());
+			return;
+		}
+		File report = new File(file.getPath().replaceAll("\\.bin$", "") + ".txt");
+		try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(report), StandardCharsets.UTF_8))) {
+			writer.println("Slowest element lookups:");
+			for (String line : getSlowestLookups(REPORT_SIZE)) {
+				writer.println(line);
+			}
+		} catch (IOException e) {
+			log.warn("Could not write the locator report to {}: {}", report, e.getMessage());
+			return;
+		}
+		log.info("Locator statistics saved to {}. Slowest element lookups are listed in {}.", file, report);
+	}
+
+	/**
+	 * Reads the statistics saved by earlier runs the first time they are needed, and arranges for them to
+	 * be saved when the JVM exits.
+	 */
+	private static void load() {
+		if (file != null) {
+			return;
+		}
+		synchronized (LocatorStatistics.class) {
+			if (file != null) {
+				return;
+			}
+			String path = ConfigurationManager.getOptionalProperty("locatorStatistics");
+			File statisticsFile = new File(StringUtils.isBlank(path) ? DEFAULT_FILE : path.trim());
+			if (statisticsFile.exists()) {
+				read(statisticsFile);
+			}
+			Runtime.getRuntime().addShutdownHook(new Thread(LocatorStatistics::save));
+			file = statisticsFile;
+		}
+	}
+
+	/**
+	 * Reads saved statistics into memory. A file that cannot be read is ignored.
+	 *
+	 * @param statisticsFile File the file to read
+	 */
+	private static void read(File statisticsFile) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(statisticsFile)))) {
+			if (in.readInt() != FILE_FORMAT) {
+				log.debug("{} is not a locator statistics file this version can read, starting over.", statisticsFile);
+				return;
+			}
+			int entries = in.readInt();
+			for (int i = 0; i < entries; i++) {
+				String elementName = in.readUTF();
+				String type = in.readUTF();
+				String value = in.readUTF();
+				Statistic statistic = new Statistic();
+				statistic.lookups = in.readLong();
+				statistic.failures = in.readLong();
+				statistic.totalNanos = in.readLong();
+				statistic.maxNanos = in.readLong();
+				try {
+					statistics.computeIfAbsent(elementName, k -> new ConcurrentHashMap<>())
+						.put(new Selector(SelectorType.valueOf(type), value), statistic);
+				} catch (IllegalArgumentException e) {
+					log.trace("Skipping statistics for unknown selector type {}.", type);
+				}
+			}
+			log.debug("Loaded locator statistics for {} selectors from {}.", entries, statisticsFile);
+		} catch (IOException e) {
+			log.debug("Could not read locator statistics from {}, starting over: {}", statisticsFile, e.getMessage());
+			statistics.clear();
+		}
+	}
+
+	/**
+	 * Returns the share of lookups that failed, or 0 if there are no statistics.
+	 *
+	 * @param statistic Statistic the statistics for a selector, or null
+	 * @return double the failure rate
+	 */
+	private static double failureRate(Statistic statistic) {
+		Statistic copy = statistic == null ? null : statistic.copy();
+		return copy == null || copy.lookups == 0 ? 0 : (double) copy.failures / copy.lookups;
+	}
+
+	/**
+	 * Returns the average time of the lookups that found the element, or the largest possible value if
+	 * there are none.
+	 *
+	 * @param statistic Statistic the statistics for a selector, or null
+	 * @return double the average lookup time in nanoseconds
+	 */
+	private static double averageNanos(Statistic statistic) {
+		Statistic copy = statistic == null ? null : statistic.copy();
+		long successes = copy == null ? 0 : copy.lookups - copy.failures;
+		return successes <= 0 ? Double.MAX_VALUE : (double) copy.totalNanos / successes;
+	}
+
+	/**
+	 * The lookups recorded for one selector of one element.
+	 */
+	private static class Statistic {
+		private long lookups = 0;
+		private long failures = 0;
+		private long totalNanos = 0;
+		private long maxNanos = 0;
+
+		/**
+		 * Adds a lookup. Only lookups that found the element count towards the time.
+		 *
+		 * @param nanos long how long the lookup took in nanoseconds
+		 * @param found boolean true if the element was found
+		 */
+		private synchronized void add(long nanos, boolean found) {
+			lookups++;
+			if (found) {
+				totalNanos += nanos;
+				maxNanos = Math.max(maxNanos, nanos);
+			} else {
+				failures++;
+			}
+		}
+
+		/**
+		 * Returns a consistent copy of the values.
+		 *
+		 * @return Statistic the copy
+		 */
+		private synchronized Statistic copy() {
+			Statistic copy = new Statistic();
+			copy.lookups = lookups;
+			copy.failures = failures;
+			copy.totalNanos = totalNanos;
+			copy.maxNanos = maxNanos;
+			return copy;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.dougnoel.sentinel.elements;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+
+import com.dougnoel.sentinel.enums.SelectorType;
+import com.dougnoel.sentinel.exceptions.NoSuchSelectorException;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * Turns a SelectorType and selector value into a Selenium By locator.
+ * <p>
+ * Each SelectorType is mapped to a factory that creates its By. Support for a new selector type is added
+ * by registering a factory for it with register(), without changing PageElement. By objects are immutable,
+ * so each one is created once and shared by every PageElement with the same selector, including the
+ * elements created again each time a page is visited.
+ * <p>
+ * PageElement finds elements of the selector types Selenium supports directly with its own script when
+ * counting or checking for them. Once the factory for one of those types is replaced with register(),
+ * elements of that type are found with the registered locator instead.
+ */
+public class Locators {
+	/* Stop caching new locators past this point so a run with generated selectors cannot grow the cache without bound. */
+	private static final int MAX_CACHE_SIZE = 10000;
+
+	private static final Map<SelectorType, Function<String, By>> DEFAULT_FACTORIES = defaultFactories();
+	private static volatile Map<SelectorType, Function<String, By>> factories = DEFAULT_FACTORIES;
+	private static final Map<SelectorType, Map<String, By>> locators = new ConcurrentHashMap<>();
+
+	private Locators() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Returns the By locator for the given selector, creating it the first time it is requested.
+	 *
+	 * @param selectorType SelectorType the type of selector
+	 * @param selectorValue String the selector value
+	 * @return org.openqa.selenium.By the locator
+	 * @throws NoSuchSelectorException if no factory is registered for the selector type
+	 */
+	public static By get(SelectorType selectorType, String selectorValue) throws NoSuchSelectorException {
+		Function<String, By> factory = selectorType == null ? null : factories.get(selectorType);
+		if (factory == null) {
+			String errorMessage = StringUtils.format(
+					"Unhandled selector type \"{}\" passed to Page Element base class. Could not resolve the reference. Refer to the Javadoc for valid options.",
+					selectorType);
+			throw new NoSuchSelectorException(errorMessage);
+		}
+		Map<String, By> typeLocators = locators.computeIfAbsent(selectorType, k -> new ConcurrentHashMap<>());
+		By locator = typeLocators.get(selectorValue);
+		if (locator == null) {
+			locator = factory.apply(selectorValue);
+			if (typeLocators.size() < MAX_CACHE_SIZE) {
+				typeLocators.put(selectorValue, locator);
+			}
+		}
+		return locator;
+	}
+
+	/**
+	 * Registers the factory used to create locators for a selector type, replacing any existing one.
+	 * Locators already created for that type are discarded.
+	 *
+	 * @param selectorType SelectorType the type of selector
+	 * @param factory Function&lt;String, By&gt; creates a locator from a selector value
+	 */
+	public static synchronized void register(SelectorType selectorType, Function<String, By> factory) {
+		Map<SelectorType, Function<String, By>> updated = new EnumMap<>(factories);
+		updated.put(selectorType, factory);
+		factories = updated;
+		locators.remove(selectorType);
+	}
+
+	/**
+	 * Returns true if a factory is registered for the selector type.
+	 *
+	 * @param selectorType SelectorType the type of selector
+	 * @return boolean true if locators can be created for the type
+	 */
+	public static boolean isSupported(SelectorType selectorType) {
+		return selectorType != null && factories.containsKey(selectorType);
+	}
+
+	/**
+	 * Returns true if the selector type still uses the factory Sentinel ships with, and false if it has
+	 * no factory or its factory was replaced with register().
+	 *
+	 * @param selectorType SelectorType the type of selector
+	 * @return boolean true if locators for the type are created by the default factory
+	 */
+	public static boolean usesDefaultFactory(SelectorType selectorType) {
+		Function<String, By> factory = selectorType == null ? null : factories.get(selectorType);
+		return factory != null && factory == DEFAULT_FACTORIES.get(selectorType);
+	}
+
+	/**
+	 * Returns the factories for the selector types Selenium supports directly.
+	 *
+	 * @return Map&lt;SelectorType, Function&lt;String, By&gt;&gt; the default factories
+	 */
+	private static Map<SelectorType, Function<String, By>> defaultFactories() {
+		Map<SelectorType, Function<String, By>> defaults = new EnumMap<>(SelectorType.class);
+		defaults.put(SelectorType.CLASS, By::className);
+		defaults.put(SelectorType.CSS, By::cssSelector);
+		defaults.put(SelectorType.ID, By::id);
+		defaults.put(SelectorType.NAME, By::name);
+		defaults.put(SelectorType.PARTIALTEXT, By::partialLinkText);
+		defaults.put(SelectorType.TEXT, By::linkText);
+		defaults.put(SelectorType.XPATH, By::xpath);
+		return defaults;
+	}
+}
@@ -1,10 +1,16 @@
 package com.dougnoel.sentinel.elements;
 
 import java.awt.AWTException;
-import java.awt.Robot;
-import java.awt.event.KeyEvent;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
@@ -18,8 +24,6 @@ import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
-import org.openqa.selenium.support.ui.Wait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import com.dougnoel.sentinel.configurations.ConfigurationManager;
@@ -45,8 +49,8 @@ import com.dougnoel.sentinel.webdrivers.WebDriverFactory;
  * to see the elements on the page as soon as you declare the page object. This
  * doesn't work, since we want to define the page before run time. The solution
  * to the problem is late binding, or declaring the objects as they are used.
- * Every time we use an element on the page, we look for it at the time we are
- * using it.
+ * The first time we use an element on the page, we look for it at the time we
+ * are using it, and then reuse what we found until it goes stale.
  * <p>
  * <b>Note:</b> Renamed from WebElement to PageElement to avoid name space
  * conflicts with selenium's WebElement object when Selenium's WebElement type
@@ -57,9 +61,6 @@ import com.dougnoel.sentinel.webdrivers.WebDriverFactory;
  * <li>Remove the need to pass in a driver class instance for the creation of
  * every element and delay that binding to a singleton class that can be
  * changed, allowing the use of multiple drivers through a testing session.</li>
- * <li>Look into creating a Selenium WebElement member variable to store the
- * element after the first time it is used. This could increase the speed of
- * calling objects that get called often.</li>
  * </ul>
  */
 public class PageElement {
@@ -67,9 +68,83 @@ public class PageElement {
 
 	protected SelectorType selectorType;
 	protected String selectorValue;
+	// All selectors in order of preference when more than one was given, otherwise null.
+	protected List<Selector> selectors = null;
+	// The selector that found the element in the last lookup.
+	private Selector winningSelector = null;
+	// The page and element name used to record locator statistics.
+	private String name = null;
+	private By locator = null;
 
 	protected WebDriver driver;
 
+	// The WebElement found by the last lookup, reused until Selenium reports that it is stale.
+	protected WebElement cachedElement = null;
+	private static final AtomicLong avoidedLookups = new AtomicLong();
+
+	// Defines find(type, value), which returns the elements in the current document matching a selector as an array-like object.
+	private static final String FIND_FUNCTION =
+			"function find(type, value) {" +
+			"switch (type) {" +
+			"case 'CLASS': return document.getElementsByClassName(value);" +
+			"case 'CSS': return document.querySelectorAll(value);" +
+			"case 'ID': var e = document.getElementById(value); return e ? [e] : [];" +
+			"case 'NAME': return document.getElementsByName(value);" +
+			"case 'XPATH':" +
+			"var xpaths = window.sentinelXPaths || (window.sentinelXPaths = {});" +
+			"var xpath = xpaths[value] || (xpaths[value] = document.createExpression(value, null));" +
+			"var result = xpath.evaluate(document, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+			"return {length: result.snapshotLength, 0: result.snapshotItem(0)};" +
+			"default:" +
+			"var links = document.getElementsByTagName('a'), found = [];" +
+			"for (var i = 0; i < links.length; i++) {" +
+			"var text = (links[i].innerText || links[i].textContent || '').trim();" +
+			"if (type === 'TEXT' ? text === value : text.indexOf(value) !== -1) { found.push(links[i]); }" +
+			"}" +
+			"return found;" +
+			"}" +
+			"}";
+
+	// Counts the elements matching any of the selectors. arguments[0] is a list of SelectorType names, arguments[1] the values.
+	private static final String COUNT_SCRIPT = FIND_FUNCTION +
+			"var count = 0;" +
+			"for (var i = 0; i < arguments[0].length; i++) { count += find(arguments[0][i], arguments[1][i]).length; }" +
+			"return count;";
+
+	// Returns [index, element] for the first selector in the lists that matches, or null if none do.
+	private static final String FIND_FIRST_SCRIPT = FIND_FUNCTION +
+			"for (var i = 0; i < arguments[0].length; i++) {" +
+			"var found = find(arguments[0][i], arguments[1][i]);" +
+			"if (found.length > 0) { return [i, found[0]]; }" +
+			"}" +
+			"return null;";
+
+	// The selector types FIND_FUNCTION knows how to find, unless their factory has been replaced in Locators.
+	private static final Set<SelectorType> SCRIPTABLE_TYPES = Collections.unmodifiableSet(EnumSet.of(
+			SelectorType.CLASS, SelectorType.CSS, SelectorType.ID, SelectorType.NAME, SelectorType.PARTIALTEXT, SelectorType.TEXT, SelectorType.XPATH));
+
+	// Reads everything an ElementSnapshot holds in one round trip. arguments[0] is the element, arguments[1] the attribute names.
+	private static final String SNAPSHOT_SCRIPT =
+			"var e = arguments[0], names = arguments[1] || [], s = window.getComputedStyle(e), r = e.getBoundingClientRect();" +
+			"var classes = e.classList ? Array.prototype.slice.call(e.classList) : (e.getAttribute('class') || '').split(/\\s+/).filter(Boolean);" +
+			"var attributes = {};" +
+			"for (var i = 0; i < names.length; i++) { attributes[names[i]] = e.getAttribute(names[i]); }" +
+			"return {" +
+			"displayed: s.display !== 'none' && s.visibility !== 'hidden' && s.opacity !== '0' && !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length)," +
+			"enabled: !(e.disabled || (e.matches && e.matches(':disabled')))," +
+			"selected: !!(e.selected || e.checked)," +
+			"text: (e.innerText || e.textContent || '').trim()," +
+			"classes: classes," +
+			"attributes: attributes," +
+			"rect: {x: r.left, y: r.top, width: r.width, height: r.height}" +
+			"};";
+
+	// Overrides the polling strategy from the configuration for this element when set.
+	protected PollingStrategy pollingStrategy = null;
+	private int lastLookupPolls = 0;
+	// Overrides the key injector from the configuration for this element when set.
+	protected KeyInjector keyInjector = null;
+
 	/**
 	 * The constructor for a WebElement to initialize how an element is going to be
 	 * found when it is worked on by the WebDriver class. Takes a reference to the
@@ -84,34 +159,176 @@ public class PageElement {
 		this.selectorType = selectorType;
 		this.selectorValue = selectorValue;
 		this.driver = WebDriverFactory.getWebDriver();
+		if (Locators.isSupported(selectorType)) {
+			try {
+				this.locator = Locators.get(selectorType, selectorValue);
+			} catch (NoSuchSelectorException e) {
+				log.trace(e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Creates an element that can be found with any of the given selectors. On each check the
+	 * selectors are tried in order in a single script run, and the first one that matches wins.
+	 * The winning selector is remembered and tried first the next time an element with the same
+	 * selectors is looked up, including on later visits to the page.
+	 * <p>
+	 * The first selector is used as the selectorType and selectorValue of the element.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 * @throws IllegalArgumentException if no selectors are given or any of them is null
+	 */
+	public PageElement(Selector... selectors) {
+		this(firstSelector(selectors).getType(), selectors[0].getValue());
+		if (selectors.length > 1) {
+			this.selectors = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(selectors)));
+		}
+	}
+
+	/**
+	 * Returns the first of the selectors passed to PageElement(Selector...), after checking that there
+	 * is at least one and that none of them are null.
+	 * 
+	 * @param selectors Selector... the selectors passed to the constructor
+	 * @return Selector the first selector
+	 * @throws IllegalArgumentException if no selectors are given or any of them is null
+	 */
+	private static Selector firstSelector(Selector... selectors) {
+		if (selectors == null || selectors.length == 0) {
+			throw new IllegalArgumentException("A page element needs at least one selector.");
+		}
+		for (Selector selector : selectors) {
+			if (selector == null) {
+				throw new IllegalArgumentException(StringUtils.format("A null selector was passed in {}.", Arrays.toString(selectors)));
+			}
+		}
+		return selectors[0];
+	}
+
+	/**
+	 * Returns the Selenium locator for this element, resolved once when the element is created.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.Locators
+	 * @return org.openqa.selenium.By the locator
+	 * @throws NoSuchSelectorException if the selector type has no locator factory registered
+	 */
+	protected By locator() throws NoSuchSelectorException {
+		if (locator == null) {
+			locator = Locators.get(selectorType, selectorValue);
+		}
+		return locator;
+	}
+
+	/**
+	 * Sets the name the element is known by, which is used to record its locator statistics.
+	 * ElementFunctions sets it to the page name and element name, e.g. LoginPage.username_field.
+	 * 
+	 * @param name String the name of the element
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the name the element is known by.
+	 * 
+	 * @return String the name set with setName(), or the element type and selector if none was set
+	 */
+	public String getName() {
+		if (name == null) {
+			name = StringUtils.format("{} {} \"{}\"", this.getClass().getSimpleName(), selectorType, selectorValue);
+		}
+		return name;
 	}
 
 	/**
-	 * Wrapper for dealing with fluent waits when getting an element.
+	 * Forgets the elements cached on the current page. Called before any action that can change the page,
+	 * such as a click or typing, so that elements holding cached state (e.g. table rows) are created again
+	 * by the next step that uses them.
+	 */
+	protected void pageChanged() {
+		PageManager.clearElementCache();
+	}
+
+	/**
+	 * Called when an element cached on the page is handed out again, usually to a later step. Elements that
+	 * keep what they have read from the page override this to forget it, since the page can change without
+	 * navigating or an action being taken through Sentinel, e.g. when a script reloads part of it.
+	 */
+	protected void reused() {
+		// Nothing is kept by default.
+	}
+
+	/**
+	 * Sets the polling strategy used when waiting for this element to appear, overriding the default set
+	 * in sentinel.yml. Passing null goes back to the default.
 	 * 
-	 * @param locator org.openqa.selenium.By
+	 * @param pollingStrategy PollingStrategy the strategy to use for this element, or null for the default
+	 */
+	public void setPollingStrategy(PollingStrategy pollingStrategy) {
+		this.pollingStrategy = pollingStrategy;
+	}
+
+	/**
+	 * Returns the polling strategy used when waiting for this element to appear.
+	 * 
+	 * @return PollingStrategy the strategy set for this element, or the default from the configuration
+	 */
+	public PollingStrategy getPollingStrategy() {
+		return pollingStrategy == null ? ConfigurationManager.getConfiguration().getPollingStrategy() : pollingStrategy;
+	}
+
+	/**
+	 * Returns the number of findElement calls the last lookup of this element needed, including the one
+	 * that found it. Returns 0 if the element has not been looked up yet.
+	 * 
+	 * @return int the number of polls
+	 */
+	public int getLastLookupPolls() {
+		return lastLookupPolls;
+	}
+
+	/**
+	 * Waits up to the default timeout for an element to appear, checking for it as often as the
+	 * polling strategy allows. The last delay is shortened so the wait never runs past the timeout.
+	 * 
+	 * @param locator Object what is being looked for, used in log messages
+	 * @param lookup Function&lt;WebDriver, WebElement&gt; a single check that throws NoSuchElementException if the element is not there
 	 * @return org.openqa.selenium.WebElement
+	 * @throws org.openqa.selenium.NoSuchElementException if the element does not appear before the timeout
 	 */
-	private WebElement getElementWithWait(final By locator) {
-		Duration timeout =  Duration.ofSeconds(ConfigurationManager.getDefaultTimeout());
-		Duration interval =  Duration.ofMillis(10);
-		Wait<WebDriver> wait = new FluentWait<WebDriver>(driver)
-			       .withTimeout(timeout)
-			       .pollingEvery(interval)
-			       .ignoring(NoSuchElementException.class);
+	private WebElement getElementWithWait(final Object locator, final Function<WebDriver, WebElement> lookup) {
+		PollingStrategy strategy = getPollingStrategy();
+		long start = System.nanoTime();
+		long deadline = start + ConfigurationManager.getConfiguration().getDefaultTimeout().toNanos();
+		int polls = 0;
 		try {
 			Thread.sleep(2); //Added to deal with intermittent issues that require 2 millisecond waits.
+			while (true) {
+				polls++;
+				try {
+					WebElement element = lookup.apply(driver);
+					log.debug("Found {} after {} polls in {} ms using {}.", locator, polls, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), strategy);
+					return element;
+				} catch (org.openqa.selenium.NoSuchElementException e) {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						log.debug("Gave up on {} after {} polls in {} ms using {}.", locator, polls, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), strategy);
+						throw e;
+					}
+					Thread.sleep(Math.min(strategy.getDelay(polls), TimeUnit.NANOSECONDS.toMillis(remaining) + 1));
+				}
+			}
 		} catch (InterruptedException e) {
 			String message = StringUtils.format(
 					"Thread Interrupted: {}", e.getMessage());
 			log.error(message);
+			Thread.currentThread().interrupt();
+			return null;
+		} finally {
+			lastLookupPolls = polls;
 		}
-		WebElement element = wait.until(new Function<WebDriver, WebElement>() {
-			public WebElement apply(WebDriver driver) {
-				return driver.findElement(locator);
-			}
-		});
-		return element;
 	}
 	
 	/**
@@ -119,45 +336,198 @@ public class PageElement {
 	 * Provides late binding for elements so that the driver does not look for them
 	 * until they are called, at which point the driver should be on the correct
 	 * page.
+	 * <p>
+	 * The element is only looked up the first time it is needed. After that the same
+	 * WebElement is returned until invalidateElement() is called, which happens when
+	 * Selenium throws a StaleElementReferenceException.
 	 * 
+	 * @see com.dougnoel.sentinel.elements.PageElement#retryIfStale(WebElementAction)
 	 * @return org.openqa.selenium.WebElement the Selenium WebElement object type that can be acted upon
 	 * @throws ElementNotFoundException if the element cannot be found
 	 */
 	protected WebElement element() throws ElementNotFoundException  {
+		if (cachedElement != null) {
+			avoidedLookups.incrementAndGet();
+			return cachedElement;
+		}
+		cachedElement = findElement();
+		return cachedElement;
+	}
+
+	/**
+	 * Forgets the cached WebElement so that the next call to element() looks it up again.
+	 */
+	protected void invalidateElement() {
+		cachedElement = null;
+	}
+
+	/**
+	 * Returns the number of element lookups that were answered from a cached WebElement
+	 * instead of a round trip to the browser, across all elements.
+	 * 
+	 * @return long the number of lookups avoided
+	 */
+	public static long getAvoidedLookups() {
+		return avoidedLookups.get();
+	}
+
+	/**
+	 * An action performed on the WebElement of this PageElement.
+	 *
+	 * @param <T> the type of the result of the action
+	 */
+	@FunctionalInterface
+	protected interface WebElementAction<T> {
+		/**
+		 * Performs the action.
+		 * 
+		 * @param element org.openqa.selenium.WebElement the element to act on
+		 * @return T the result of the action
+		 */
+		T apply(WebElement element);
+	}
+
+	/**
+	 * Performs the action on the cached WebElement. If the element has gone stale, it is
+	 * looked up again and the action is performed one more time.
+	 * 
+	 * @param <T> the type of the result of the action
+	 * @param action WebElementAction&lt;T&gt; the action to perform
+	 * @return T the result of the action
+	 * @throws ElementNotFoundException if the element cannot be found
+	 */
+	protected <T> T retryIfStale(WebElementAction<T> action) throws ElementNotFoundException {
+		try {
+			return action.apply(element());
+		} catch (StaleElementReferenceException e) {
+			log.trace("{} element using the {} value \"{}\" went stale, looking it up again.", this.getClass().getSimpleName(), selectorType, selectorValue);
+			invalidateElement();
+			return action.apply(element());
+		}
+	}
+
+	/**
+	 * Returns the selectors of this element in the order the locator statistics say to try them.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.LocatorStatistics#order(String, List)
+	 * @return List&lt;Selector&gt; the selectors in the order to try them
+	 */
+	private List<Selector> orderedSelectors() {
+		return LocatorStatistics.order(getName(), selectors);
+	}
+
+	/**
+	 * Checks once for an element matching any of the selectors and returns the match for the first
+	 * selector that has one. Selectors the find script understands are all tried in one script run.
+	 * Any other selector types are tried one at a time with findElements, which waits out the
+	 * implicit wait when nothing matches.
+	 * 
+	 * @param ordered List&lt;Selector&gt; the selectors in the order to try them
+	 * @return org.openqa.selenium.WebElement the first element found
+	 * @throws org.openqa.selenium.NoSuchElementException if no selector matches
+	 */
+	private WebElement findFirst(List<Selector> ordered) {
+		boolean scriptable = true;
+		for (Selector selector : ordered) {
+			scriptable &= isScriptable(selector.getType());
+		}
+		if (scriptable) {
+			Object result = ((JavascriptExecutor) driver).executeScript(FIND_FIRST_SCRIPT, typeNames(ordered), values(ordered));
+			if (result instanceof List && ((List<?>) result).size() == 2) {
+				List<?> match = (List<?>) result;
+				return foundWith(ordered.get(((Number) match.get(0)).intValue()), (WebElement) match.get(1));
+			}
+		} else {
+			for (Selector selector : ordered) {
+				try {
+					List<WebElement> found = driver.findElements(Locators.get(selector.getType(), selector.getValue()));
+					if (!found.isEmpty()) {
+						return foundWith(selector, found.get(0));
+					}
+				} catch (NoSuchSelectorException e) {
+					log.trace(e.getMessage());
+				}
+			}
+		}
+		throw new org.openqa.selenium.NoSuchElementException(StringUtils.format("No element matched any of the selectors {}", ordered));
+	}
+
+	/**
+	 * Remembers the selector that found the element so the lookup can be recorded against it.
+	 * 
+	 * @param selector Selector the selector that matched
+	 * @param element org.openqa.selenium.WebElement the element it found
+	 * @return org.openqa.selenium.WebElement the element
+	 */
+	private WebElement foundWith(Selector selector, WebElement element) {
+		log.trace("{} element found using {}.", getName(), selector);
+		winningSelector = selector;
+		return element;
+	}
+
+	/**
+	 * Returns true if elements of the selector type can be found with FIND_FUNCTION. Types whose factory
+	 * has been replaced with Locators.register() are found with the registered locator instead.
+	 * 
+	 * @param selectorType SelectorType the type of selector
+	 * @return boolean true if the find script can be used for the type
+	 */
+	private static boolean isScriptable(SelectorType selectorType) {
+		return SCRIPTABLE_TYPES.contains(selectorType) && Locators.usesDefaultFactory(selectorType);
+	}
+
+	/**
+	 * Returns the names of the selector types, for passing to a script.
+	 * 
+	 * @param selectorList List&lt;Selector&gt; the selectors
+	 * @return List&lt;String&gt; the SelectorType names
+	 */
+	private static List<String> typeNames(List<Selector> selectorList) {
+		List<String> names = new ArrayList<>(selectorList.size());
+		for (Selector selector : selectorList) {
+			names.add(selector.getType().name());
+		}
+		return names;
+	}
+
+	/**
+	 * Returns the selector values, for passing to a script.
+	 * 
+	 * @param selectorList List&lt;Selector&gt; the selectors
+	 * @return List&lt;String&gt; the values
+	 */
+	private static List<String> values(List<Selector> selectorList) {
+		List<String> values = new ArrayList<>(selectorList.size());
+		for (Selector selector : selectorList) {
+			values.add(selector.getValue());
+		}
+		return values;
+	}
+
+	/**
+	 * Looks up the Selenium WebElement on the current page, waiting up to the
+	 * default timeout for it to appear.
+	 * 
+	 * @return org.openqa.selenium.WebElement the Selenium WebElement object type that can be acted upon
+	 * @throws ElementNotFoundException if the element cannot be found
+	 */
+	private WebElement findElement() throws ElementNotFoundException  {
 		WebElement element = null;
+		long start = System.nanoTime();
 
 		try {
-			switch (selectorType) {
-			case CLASS:
-				element = getElementWithWait(By.className(selectorValue));
-				break;
-			case CSS:
-				element = getElementWithWait(By.cssSelector(selectorValue));
-				break;
-			case ID:
-				element = getElementWithWait(By.id(selectorValue));
-				break;
-			case NAME:
-				element = getElementWithWait(By.name(selectorValue));
-				break;
-			case PARTIALTEXT:
-				element = getElementWithWait(By.partialLinkText(selectorValue));
-				break;
-			case TEXT:
-				element = getElementWithWait(By.linkText(selectorValue));
-				break;
-			case XPATH:
-				element = getElementWithWait(By.xpath(selectorValue));
-				break;
-			default:
-				// This is here in case a new type is added to SelectorType and has not been
-				// implemented yet here.
-				String errorMessage = StringUtils.format(
-						"Unhandled selector type \"{}\" passed to Page Element base class. Could not resolve the reference. Refer to the Javadoc for valid options.",
-						selectorType);
-				throw new NoSuchSelectorException(errorMessage);
+			if (selectors == null) {
+				By by = locator();
+				element = getElementWithWait(by, d -> d.findElement(by));
+				winningSelector = new Selector(selectorType, selectorValue);
+			} else {
+				List<Selector> ordered = orderedSelectors();
+				element = getElementWithWait(ordered, d -> findFirst(ordered));
 			}
 		} catch (org.openqa.selenium.NoSuchElementException e) {
+			for (Selector selector : selectors == null ? Collections.singletonList(new Selector(selectorType, selectorValue)) : selectors) {
+				LocatorStatistics.record(getName(), selector, System.nanoTime() - start, false);
+			}
 			String errorMessage = StringUtils.format(
 					"{} element does not exist or is not visible using the {} value \"{}\". Assure you are on the page you think you are on, and that the element identifier you are using is correct.",
 					this.getClass().getSimpleName(), selectorType, selectorValue);
@@ -169,6 +539,7 @@ public class PageElement {
 					this.getClass().getSimpleName(), selectorType, selectorValue);
 			throw new NoSuchElementException(errorMessage);
 		}
+		LocatorStatistics.record(getName(), winningSelector, System.nanoTime() - start, true);
 		return element;
 	}	
 
@@ -186,15 +557,20 @@ public class PageElement {
 	 * @throws ElementNotFoundException if the element cannot be found
 	 */
 	public PageElement sendKeys(String text) throws ElementNotFoundException {
-		element().click();
-		element().clear();
-		element().sendKeys(text);
+		pageChanged();
+		retryIfStale(element -> {
+			element.click();
+			element.clear();
+			element.sendKeys(text);
+			return null;
+		});
 		return this;
 	}
 
 	public PageElement javaScriptSendKeys(String text) throws SentinelException {
+		pageChanged();
 		JavascriptExecutor jse = (JavascriptExecutor) driver;
-		jse.executeScript("arguments[0].value='" + text + "';", element());
+		retryIfStale(element -> jse.executeScript("arguments[0].value='" + text + "';", element));
 
 		return this;
 	}
@@ -203,7 +579,11 @@ public class PageElement {
 	 * Press keys with focus on a PageElement. This is useful when type() or
 	 * sendKeys isn't working due to a mask or hidden field being employed to grab
 	 * key press events and operate on each one.
+	 * <p>
+	 * Keys are pressed by the key injector set for this element, or the default
+	 * set with the keyInjection and keyDelay properties.
 	 * 
+	 * @see com.dougnoel.sentinel.elements.KeyInjector
 	 * @param text
 	 *            String (keys to type)
 	 * @return PageElement (for chaining)
@@ -211,6 +591,7 @@ public class PageElement {
 	 * @throws ElementNotFoundException if the element cannot be found
 	 */
 	public PageElement pressKeys(String text) throws AWTException, ElementNotFoundException {
+		pageChanged();
 		// Ensure that the element has focus.
 		if ("input".equals(element().getTagName())) {
 			element().sendKeys("");
@@ -218,22 +599,30 @@ public class PageElement {
 			new Actions(driver).moveToElement(element()).perform();
 		}
 
-		// Iterate through the string and press every key
-		Robot robot = new Robot();
-		robot.delay(1000);
-		char[] chars = text.toCharArray();
-
-		for (char c : chars) {
-			log.debug(c);
-			robot.keyPress(KeyEvent.getExtendedKeyCodeForChar(c));
-			robot.delay(1000);
-			robot.keyRelease(KeyEvent.getExtendedKeyCodeForChar(c));
-			robot.delay(1000);
-		}
+		getKeyInjector().pressKeys(driver, element(), text);
 
 		return this;
 	}
 
+	/**
+	 * Sets the key injector used by pressKeys() for this element, overriding the default set
+	 * in sentinel.yml. Passing null goes back to the default.
+	 * 
+	 * @param keyInjector KeyInjector the injector to use for this element, or null for the default
+	 */
+	public void setKeyInjector(KeyInjector keyInjector) {
+		this.keyInjector = keyInjector;
+	}
+
+	/**
+	 * Returns the key injector used by pressKeys() for this element.
+	 * 
+	 * @return KeyInjector the injector set for this element, or the default from the configuration
+	 */
+	public KeyInjector getKeyInjector() {
+		return keyInjector == null ? ConfigurationManager.getConfiguration().getKeyInjector() : keyInjector;
+	}
+
 	/**
 	 * Click a PageElement.
 	 * <p>
@@ -251,10 +640,14 @@ public class PageElement {
 	 * @throws ElementNotFoundException if the element cannot be found
 	 */
 	public PageElement click() throws ElementNotFoundException  {
-		long waitTime = ConfigurationManager.getDefaultTimeout();
+		pageChanged();
+		long waitTime = ConfigurationManager.getConfiguration().getDefaultTimeoutInSeconds();
 		try {
 			new WebDriverWait(driver, waitTime).until(ExpectedConditions.elementToBeClickable(element())).click();
 		} catch (WebDriverException e) {
+			if (e instanceof StaleElementReferenceException) {
+				invalidateElement();
+			}
 			try {
 				JavascriptExecutor executor = (JavascriptExecutor) driver;
 				executor.executeScript("arguments[0].click();", element());
@@ -282,7 +675,11 @@ public class PageElement {
 	 * @throws ElementNotFoundException if the element cannot be found
 	 */
 	public PageElement clear() throws ElementNotFoundException {
-		element().clear();
+		pageChanged();
+		retryIfStale(element -> {
+			element.clear();
+			return null;
+		});
 		return this;
 	}
 
@@ -325,6 +722,7 @@ public class PageElement {
 				return new WebDriverWait(driver, seconds).until(ExpectedConditions.elementToBeClickable(element()))
 						.isEnabled();
 			} catch (StaleElementReferenceException e) {
+				invalidateElement();
 				if (retries < 5) {
 					retries++;
 					continue;
@@ -343,7 +741,7 @@ public class PageElement {
 	 * @throws ElementNotFoundException if the element cannot be found
 	 */
 	public boolean isSelected() throws ElementNotFoundException {
-		return element().isSelected();
+		return retryIfStale(WebElement::isSelected);
 	}
 
 	/**
@@ -385,6 +783,7 @@ public class PageElement {
 				return new WebDriverWait(driver, seconds).until(ExpectedConditions.visibilityOf(element()))
 						.isDisplayed();
 			} catch (StaleElementReferenceException e) {
+				invalidateElement();
 				if (retries < 5) {
 					retries++;
 					continue;
@@ -398,53 +797,94 @@ public class PageElement {
 	}
 
 	/**
-	 * Determines with 250 milliseconds (1/4 of a second) if an element is not present.
-	 * This should be used when you expect an element to not be present and do not want
-	 * to slow down your tests waiting for the normal timeout time to expire.
+	 * Returns true if the element is on the page right now. This does not wait for the element to
+	 * appear and is not affected by the implicit wait.
+	 * 
+	 * @return boolean true if at least one element matches the selector, false if none do
+	 * @throws NoSuchSelectorException if the selector type passed is invalid
+	 */
+	public boolean isPresent() throws NoSuchSelectorException {
+		return countMatches() > 0;
+	}
+
+	/**
+	 * Determines within the absence window if an element is not present. This should be used
+	 * when you expect an element to not be present and do not want to slow down your tests
+	 * waiting for the normal timeout time to expire. The window defaults to 250 milliseconds
+	 * and can be changed with the absenceWindow property.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.PageElement#doesNotExist(Duration)
 	 * @return boolean true if the element cannot be found, false if it is found
 	 * @throws NoSuchSelectorException if the selector type passed is invalid
 	 */
 	public boolean doesNotExist() throws NoSuchSelectorException {
-		// Reducing the time we have to wait for an expected failure.
-		PageManager.setTimeout(250, TimeUnit.MILLISECONDS);
-		WebElement element = null;
-		boolean flag = false;
+		return doesNotExist(ConfigurationManager.getConfiguration().getAbsenceWindow());
+	}
 
-		try {
-			switch (selectorType) {
-			case CSS:
-				element = driver.findElement(By.cssSelector(selectorValue));
-			case ID:
-				element = driver.findElement(By.id(selectorValue));
-				break;
-			case NAME:
-				element = driver.findElement(By.name(selectorValue));
-				break;
-			case PARTIALTEXT:
-				element = driver.findElement(By.partialLinkText(selectorValue));
-				break;
-			case TEXT:
-				element = driver.findElement(By.linkText(selectorValue));
-				break;
-			case XPATH:
-				element = driver.findElement(By.xpath(selectorValue));
-				break;
-			default:
-				// This is here in case a new type is added to SelectorType and has not been
-				// implemented yet here.
-				String errorMessage = StringUtils.format(
-						"Unhandled selector type \"{}\" passed to Page Element base class. Could not resolve the reference. Refer to the Javadoc for valid options.",
-						selectorType);
-				throw new NoSuchSelectorException(errorMessage);
+	/**
+	 * Returns true as soon as the element is not on the page. If the element is there, it is
+	 * checked again as often as the polling strategy allows until the window runs out, so that
+	 * an element that is going away, such as a closing dialog, is not reported as present.
+	 * <p>
+	 * Each check is a single script run in the current frame, so an element that is absent is
+	 * reported in one round trip instead of waiting out the implicit wait, and the driver's
+	 * implicit wait is never changed.
+	 * 
+	 * @param window java.time.Duration how long to wait for the element to go away
+	 * @return boolean true if the element cannot be found, false if it is still found at the end of the window
+	 * @throws NoSuchSelectorException if the selector type passed is invalid
+	 */
+	public boolean doesNotExist(Duration window) throws NoSuchSelectorException {
+		PollingStrategy strategy = getPollingStrategy();
+		long deadline = System.nanoTime() + window.toNanos();
+		int polls = 0;
+		while (true) {
+			polls++;
+			if (countMatches() == 0) {
+				invalidateElement();
+				log.trace("Return result: true after {} polls", polls);
+				return true;
+			}
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				log.trace("Return result: false after {} polls", polls);
+				return false;
+			}
+			try {
+				Thread.sleep(Math.min(strategy.getDelay(polls), TimeUnit.NANOSECONDS.toMillis(remaining) + 1));
+			} catch (InterruptedException e) {
+				String message = StringUtils.format(
+						"Thread Interrupted: {}", e.getMessage());
+				log.error(message);
+				Thread.currentThread().interrupt();
+				return false;
 			}
-		} catch (org.openqa.selenium.NoSuchElementException e) {
-			// If we cannot find the element does not exist and we return true
-			if (element == null)
-				flag = true;
 		}
-		PageManager.setDefaultTimeout();
-		log.trace("Return result: {}", flag);
-		return flag;
+	}
+
+	/**
+	 * Returns the number of elements in the current frame that match the selector, without waiting.
+	 * 
+	 * @return long the number of matching elements
+	 * @throws NoSuchSelectorException if the selector type passed is invalid
+	 */
+	private long countMatches() throws NoSuchSelectorException {
+		List<Selector> all = selectors == null ? Collections.singletonList(new Selector(selectorType, selectorValue)) : selectors;
+		long count = 0;
+		List<Selector> scriptable = new ArrayList<>(all.size());
+		for (Selector selector : all) {
+			if (isScriptable(selector.getType())) {
+				scriptable.add(selector);
+			} else {
+				// Selector types registered or overridden with Locators are counted by the driver, which waits out the implicit wait if there are none.
+				count += driver.findElements(Locators.get(selector.getType(), selector.getValue())).size();
+			}
+		}
+		if (!scriptable.isEmpty()) {
+			Object matches = ((JavascriptExecutor) driver).executeScript(COUNT_SCRIPT, typeNames(scriptable), values(scriptable));
+			count += matches instanceof Number ? ((Number) matches).longValue() : 0L;
+		}
+		return count;
 	}
 
 	/**
@@ -454,7 +894,7 @@ public class PageElement {
 	 * @throws ElementNotFoundException if the element cannot be found
 	 */
 	public String getText() throws ElementNotFoundException {
-		return element().getText();
+		return retryIfStale(WebElement::getText);
 	}
 
 	/**
@@ -467,6 +907,22 @@ public class PageElement {
 		return element();
 	}
 
+	/**
+	 * Returns the displayed, enabled and selected state, text, classes, bounding box and the given
+	 * attributes of the element, read from the browser in a single executeScript call.
+	 * 
+	 * @param attributeNames String... the names of the attributes to read, if any
+	 * @return ElementSnapshot the state of the element
+	 * @throws ElementNotFoundException if the element cannot be found
+	 */
+	@SuppressWarnings("unchecked")
+	public ElementSnapshot snapshot(String... attributeNames) throws ElementNotFoundException {
+		Object values = retryIfStale(element -> ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, element, Arrays.asList(attributeNames)));
+		ElementSnapshot snapshot = new ElementSnapshot(values instanceof Map ? (Map<String, Object>) values : Collections.<String, Object>emptyMap());
+		log.trace("Snapshot of {} element using the {} value \"{}\": {}", this.getClass().getSimpleName(), selectorType, selectorValue, snapshot);
+		return snapshot;
+	}
+
 	/**
 	 * Verifies if the element has a class value.
 	 * <p>
@@ -480,7 +936,7 @@ public class PageElement {
 	 * @throws ElementNotFoundException if the element cannot be found
 	 */
 	public boolean hasClass(String text) throws ElementNotFoundException {
-		String classes = element().getAttribute("class");
+		String classes = retryIfStale(element -> element.getAttribute("class"));
 		log.debug("Classes found on element " + this.getClass().getName().toString() + ": " + classes);
 		for (String c : classes.split(" ")) {
 			if (c.equals(text)) {
@@ -506,7 +962,7 @@ public class PageElement {
 	 * @throws ElementNotFoundException if the element cannot be found
 	 */
 	public boolean attributeEquals(String attribute, String value) throws ElementNotFoundException {
-		String values = element().getAttribute(attribute);
+		String values = retryIfStale(element -> element.getAttribute(attribute));
 		log.debug("Values found for attribute {} on element {}: {}", attribute, this.getClass().getName().toString(),
 				values);
 		if (values == value) {
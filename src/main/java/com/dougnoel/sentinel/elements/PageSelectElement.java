@@ -27,6 +27,15 @@ public class PageSelectElement extends PageElement {
         super(selectorType, selectorValue);
     }
 
+    /**
+     * Implementation of a PageSelectElement that can be found with any of several selectors. The first one that matches is used.
+     * 
+     * @param selectors Selector... one or more selectors, in order of preference
+     */
+    public PageSelectElement(Selector... selectors) {
+        super(selectors);
+    }
+
     /**
      * Selects an option from a drop down using the text value of the item to select.
      * @param selectText the value to select
@@ -34,6 +43,7 @@ public class PageSelectElement extends PageElement {
      * @throws ElementNotFoundException if the element cannot be found
      */
     public PageSelectElement select(String selectText) throws ElementNotFoundException{
+        pageChanged();
         Select selectElement = new Select(this.element());
         selectElement.selectByVisibleText(selectText);
 
@@ -47,6 +57,7 @@ public class PageSelectElement extends PageElement {
      * @throws ElementNotFoundException if the element cannot be found
      */
     public PageSelectElement select(int index) throws  ElementNotFoundException{
+        pageChanged();
         Select selectElement = new Select(this.element());
         selectElement.selectByIndex(index);
         
@@ -62,6 +73,7 @@ public class PageSelectElement extends PageElement {
      * @throws ElementNotFoundException if the element cannot be found
      */
     public PageSelectElement select(SelectorType selectorType, String selectText) throws ElementNotFoundException {
+        pageChanged();
         Select selectElement = new Select(this.element());
         switch (selectorType) {
         case INDEX:
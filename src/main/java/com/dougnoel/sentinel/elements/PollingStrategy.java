@@ -0,0 +1,111 @@
+package com.dougnoel.sentinel.elements;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.dougnoel.sentinel.enums.PollingType;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * Decides how long to wait between checks while waiting for an element to appear.
+ * <p>
+ * Every check is a findElement call, which is an HTTP request when the driver is remote. A fixed interval
+ * of a few milliseconds is fine for a local browser but sends a large number of requests to a grid or
+ * Sauce Labs session. Exponential backoff starts at the interval and doubles it after each check until it
+ * reaches the maximum interval. Jittered backoff picks a random delay between the interval and the
+ * exponential delay so that elements waiting at the same time do not all poll together.
+ * <p>
+ * The default strategy is set in sentinel.yml with the polling, pollingInterval and pollingMaxInterval
+ * properties. Intervals are in milliseconds. A strategy can be set for a single element with
+ * PageElement.setPollingStrategy().
+ *
+ * @see com.dougnoel.sentinel.configurations.ConfigurationSnapshot#getPollingStrategy()
+ * @see com.dougnoel.sentinel.elements.PageElement#setPollingStrategy(PollingStrategy)
+ */
+public class PollingStrategy {
+	private final PollingType type;
+	private final long interval;
+	private final long maxInterval;
+
+	/**
+	 * Creates a polling strategy. If the maximum interval is less than the interval, the interval is used
+	 * for both. Negative intervals are treated as zero.
+	 *
+	 * @param type PollingType how the delay changes between checks
+	 * @param interval java.time.Duration the delay after the first check
+	 * @param maxInterval java.time.Duration the longest delay between two checks
+	 */
+	public PollingStrategy(PollingType type, Duration interval, Duration maxInterval) {
+		this.type = type == null ? PollingType.FIXED : type;
+		this.interval = Math.max(0L, interval.toMillis());
+		this.maxInterval = Math.max(this.interval, maxInterval.toMillis());
+	}
+
+	/**
+	 * Returns how the delay changes between checks.
+	 *
+	 * @return PollingType the polling type
+	 */
+	public PollingType getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the delay after the first check.
+	 *
+	 * @return java.time.Duration the interval
+	 */
+	public Duration getInterval() {
+		return Duration.ofMillis(interval);
+	}
+
+	/**
+	 * Returns the longest delay between two checks.
+	 *
+	 * @return java.time.Duration the maximum interval
+	 */
+	public Duration getMaxInterval() {
+		return Duration.ofMillis(maxInterval);
+	}
+
+	/**
+	 * Returns how long to wait after the given check before making the next one.
+	 *
+	 * @param poll int the number of checks made so far, starting at 1
+	 * @return long the delay in milliseconds
+	 */
+	public long getDelay(int poll) {
+		switch (type) {
+		case EXPONENTIAL:
+			return getExponentialDelay(poll);
+		case JITTERED:
+			long upperBound = getExponentialDelay(poll);
+			if (upperBound <= interval) {
+				return interval;
+			}
+			return ThreadLocalRandom.current().nextLong(interval, upperBound + 1);
+		case FIXED:
+		default:
+			return interval;
+		}
+	}
+
+	/**
+	 * Returns the interval doubled once for each check after the first, capped at the maximum interval.
+	 *
+	 * @param poll int the number of checks made so far, starting at 1
+	 * @return long the delay in milliseconds
+	 */
+	private long getExponentialDelay(int poll) {
+		long delay = interval;
+		for (int i = 1; i < poll && delay < maxInterval; i++) {
+			delay = delay == 0 ? 1 : delay * 2;
+		}
+		return Math.min(delay, maxInterval);
+	}
+
+	@Override
+	public String toString() {
+		return StringUtils.format("{} polling every {} ms, up to {} ms", type, interval, maxInterval);
+	}
+}
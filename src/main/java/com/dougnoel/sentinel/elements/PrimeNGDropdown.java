@@ -33,6 +33,15 @@ public class PrimeNGDropdown extends JSDropdownElement {
 		super(selectorType, selectorValue);
 	}
 
+	/**
+	 * Implementation of a PrimeNGDropdown that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public PrimeNGDropdown(Selector... selectors) {
+		super(selectors);
+	}
+
 	/**
 	 * Returns a WebElement for an option with the given text.
 	 * @param selectionText String the text to be selected
@@ -10,8 +10,18 @@ public class PrimeNGRadioButton extends Radiobutton {
 	public PrimeNGRadioButton(SelectorType selectorType, String selectorValue) {
 		super(selectorType, selectorValue);
 	}
+
+	/**
+	 * Implementation of a PrimeNGRadioButton that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public PrimeNGRadioButton(Selector... selectors) {
+		super(selectors);
+	}
 	
 	public PageElement click() throws ElementNotFoundException {
+		pageChanged();
 		element().findElement(By.xpath("//input")).click();
 		return this;
 	}
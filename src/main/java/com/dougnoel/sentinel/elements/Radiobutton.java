@@ -18,4 +18,13 @@ public class Radiobutton extends PageElement {
 		super(selectorType, selectorValue);
 	}
 
+	/**
+	 * Implementation of a Radiobutton that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public Radiobutton(Selector... selectors) {
+		super(selectors);
+	}
+
 }
@@ -0,0 +1,69 @@
+package com.dougnoel.sentinel.elements;
+
+import java.util.Objects;
+
+import com.dougnoel.sentinel.enums.SelectorType;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * A selector type and value pair used to find a PageElement. An element can be created with several
+ * selectors in order of preference, for example an id with a CSS fallback, and is found with whichever
+ * one matches first.
+ *
+ * @see com.dougnoel.sentinel.elements.PageElement#PageElement(Selector...)
+ */
+public class Selector {
+	private final SelectorType type;
+	private final String value;
+
+	/**
+	 * Creates a selector.
+	 *
+	 * @param type SelectorType the type of selector to use
+	 * @param value String the value to look for with the given selector type
+	 */
+	public Selector(SelectorType type, String value) {
+		this.type = type;
+		this.value = value;
+	}
+
+	/**
+	 * Returns the type of the selector.
+	 *
+	 * @return SelectorType the selector type
+	 */
+	public SelectorType getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the value of the selector.
+	 *
+	 * @return String the selector value
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof Selector)) {
+			return false;
+		}
+		Selector selector = (Selector) other;
+		return type == selector.type && Objects.equals(value, selector.value);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(type, value);
+	}
+
+	@Override
+	public String toString() {
+		return StringUtils.format("{} \"{}\"", type, value);
+	}
+}
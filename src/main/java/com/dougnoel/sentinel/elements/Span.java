@@ -17,4 +17,13 @@ public class Span extends PageElement {
 	public Span(SelectorType selectorType, String selectorValue) {
 		super(selectorType, selectorValue);
 	}
+
+	/**
+	 * Implementation of a Span that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public Span(Selector... selectors) {
+		super(selectors);
+	}
 }
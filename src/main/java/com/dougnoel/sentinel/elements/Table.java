@@ -1,32 +1,92 @@
 package com.dougnoel.sentinel.elements;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import com.dougnoel.sentinel.configurations.ConfigurationManager;
+import com.dougnoel.sentinel.configurations.ObjectMappers;
+import com.dougnoel.sentinel.enums.MatchType;
 import com.dougnoel.sentinel.enums.SelectorType;
+import com.dougnoel.sentinel.enums.SortType;
 import com.dougnoel.sentinel.enums.TableType;
 import com.dougnoel.sentinel.exceptions.ElementNotFoundException;
 import com.dougnoel.sentinel.exceptions.NoSuchColumnException;
 import com.dougnoel.sentinel.strings.StringUtils;
+import com.fasterxml.jackson.databind.JsonNode;
 
 /**
  * Implements a Table WebElement. contains functionality for counting values, finding values inside a table, and other
  * management issues, such as finding a value in the same row.
+ * <p>
+ * The headers and the text of every cell are read with a single script that returns them as JSON, instead of
+ * a findElements and a getText call for every cell. If the script cannot be run, or the tableScraping property
+ * is set to elements, the table is read one element at a time.
  */
 
 public class Table extends PageElement {
 	private static final Logger log = LogManager.getLogger(Table.class.getName()); // Create a logger.
 
-	private TableType tableType = TableType.HTML;
+	/* Returns [headers, rows] as JSON, starting at the first data row like getOrCreateRows() does. Arguments: table, header tag, row tag, cell tag, first data row. */
+	private static final String SCRAPE_SCRIPT =
+			"var table = arguments[0], headerTag = arguments[1], rowTag = arguments[2], cellTag = arguments[3], firstRow = arguments[4];" +
+			"function text(e) { var t = e.innerText; if (t === undefined || t === null) { t = e.textContent || ''; } return t.replace(/\\u00a0/g, ' ').replace(/^\\s+|\\s+$/g, ''); }" +
+			"var headers = [], rows = [], headerCells = table.getElementsByTagName(headerTag), rowElements = table.getElementsByTagName(rowTag);" +
+			"for (var h = 0; h < headerCells.length; h++) { headers.push(text(headerCells[h])); }" +
+			"for (var r = firstRow; r < rowElements.length; r++) {" +
+			"var cells = rowElements[r].getElementsByTagName(cellTag), row = [];" +
+			"for (var c = 0; c < cells.length; c++) { row.push(text(cells[c])); }" +
+			"rows.push(row);" +
+			"}" +
+			"return JSON.stringify([headers, rows]);";
+
+	/* Scrolls the body of an ngx-datatable and returns the rows shown afterwards as JSON, each with the key that
+	 * tells it apart. Arguments: table, header tag, row tag, cell tag, rows to scroll (0 for a page), true to scroll to the top. */
+	private static final String SCROLL_SCRIPT =
+			"var table = arguments[0], headerTag = arguments[1], rowTag = arguments[2], cellTag = arguments[3], chunk = arguments[4], restart = arguments[5], callback = arguments[arguments.length - 1];" +
+			"function text(e) { var t = e.innerText; if (t === undefined || t === null) { t = e.textContent || ''; } return t.replace(/\\u00a0/g, ' ').replace(/^\\s+|\\s+$/g, ''); }" +
+			"var body = table.getElementsByTagName('datatable-body')[0];" +
+			"if (!body || (restart && body.scrollHeight <= body.clientHeight)) { callback(JSON.stringify({ virtual: false })); return; }" +
+			"var start = body.scrollTop, moved;" +
+			"if (restart) { body.scrollTop = 0; moved = start !== 0; }" +
+			"else {" +
+			"var rendered = body.getElementsByTagName(rowTag), step = body.clientHeight;" +
+			"if (chunk > 0 && rendered.length > 0 && rendered[0].offsetHeight > 0) { step = Math.min(step, chunk * rendered[0].offsetHeight); }" +
+			"body.scrollTop = start + Math.max(step, 1);" +
+			"moved = body.scrollTop !== start;" +
+			"}" +
+			"function read() {" +
+			"var bodyTop = body.getBoundingClientRect().top, headers = [], rows = [], rowElements = body.getElementsByTagName(rowTag);" +
+			"if (restart) { var headerCells = table.getElementsByTagName(headerTag); for (var h = 0; h < headerCells.length; h++) { headers.push(text(headerCells[h])); } }" +
+			"for (var r = 0; r < rowElements.length; r++) {" +
+			"var row = rowElements[r], wrapper = row.parentNode, index = row.getAttribute('aria-rowindex') || (wrapper && wrapper.getAttribute ? wrapper.getAttribute('aria-rowindex') : null);" +
+			"var key = index ? 'i' + index : 'p' + Math.round(row.getBoundingClientRect().top - bodyTop + body.scrollTop);" +
+			"var cells = row.getElementsByTagName(cellTag), values = [];" +
+			"for (var c = 0; c < cells.length; c++) { values.push(text(cells[c])); }" +
+			"rows.push([key, values]);" +
+			"}" +
+			"callback(JSON.stringify({ virtual: true, start: start, headers: headers, rows: rows, done: !restart && !moved }));" +
+			"}" +
+			"if (!moved) { read(); } else if (window.requestAnimationFrame) { window.requestAnimationFrame(function() { setTimeout(read, 0); }); } else { setTimeout(read, 50); }";
+
+	/* Scrolls the body of an ngx-datatable to a position. Arguments: table, position in pixels. */
+	private static final String RESTORE_SCROLL_SCRIPT = "var body = arguments[0].getElementsByTagName('datatable-body')[0]; if (body) { body.scrollTop = arguments[1]; }";
+
+	private TableType tableType = null; // Found from the tag name of the table the first time it is needed
 	private String tableHeaderTag = "th";
 	private String tableRowTag = "tr";
 	private String tableCellDataTag = "td";
@@ -37,14 +97,18 @@ public class Table extends PageElement {
 	protected List<ArrayList<String>> rows = new ArrayList<ArrayList<String>>(); // All text values of every row
 	protected Map<String, ArrayList<String>> columns = new HashMap<>(); // All text values of every column
 	protected Map<Integer, List<ArrayList<String>>> tables = new HashMap<>(); // Way to hold values of the same table on multiple pages.
+	private boolean scraped = false; // True once the headers and rows have been read with the scrape script
+	private boolean scrolled = false; // True once every row of a virtual scrolling table has been read by scrolling it
+	protected TableSnapshot tableSnapshot = null; // Column store of the headers and rows used by the verify methods
+	private final Map<String, Comparator<String>> columnComparators = new HashMap<>(); // Sort order of columns that are not plain text
 
 	/**
 	 * Creates a table object to manipulate. Expects a table or ngx-datatable tag. When used
 	 * the table object finds and creates rows and columns and stores them. If data in the table changes
 	 * you must use the reset() method. You can save the current state of a table by calling the storeTable()
 	 * method.
-	 * NOTE: Unlike other element methods, this one throws an ElementNotFound exception because the constructor
-	 * must look at the tag to determine the table type.
+	 * The tag is looked at to determine the table type the first time the table is used, after ElementFunctions
+	 * has set its name, so the lookup is recorded under that name.
 	 * TODO: To make this more easily extensible, this should be a factory method, creating and returning
 	 * table objects based on the tag name.
 	 * 
@@ -54,38 +118,295 @@ public class Table extends PageElement {
 	 */
 	public Table(SelectorType selectorType, String selectorValue) {
 		super(selectorType, selectorValue);
-		
+	}
+
+	/**
+	 * Creates a table object that can be found with any of several selectors. The first one that matches is used.
+	 * Expects a table or ngx-datatable tag.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public Table(Selector... selectors) {
+		super(selectors);
+	}
+
+	/**
+	 * Returns the type of the table, looking at its tag name to find it the first time this is called. Also sets
+	 * the tags used to find headers, rows and cells. If the table cannot be found it is treated as an HTML table
+	 * for now, and the tag name is looked at again the next time.
+	 * 
+	 * @return TableType the type of the table
+	 */
+	private TableType tableType() {
+		if (tableType != null) {
+			return tableType;
+		}
 		try {
 			if (this.toWebElement().getTagName().contains("ngx-datatable")) {
 				tableType = TableType.NGXDATATABLE;
 				tableHeaderTag = "datatable-header-cell";
 				tableRowTag = "datatable-body-row";
 				tableCellDataTag = "datatable-body-cell";
+			} else {
+				tableType = TableType.HTML;
 			}
+			return tableType;
 		} catch (ElementNotFoundException e) {
 			log.error(e.getStackTrace()); //Suppress this for now.
+			return TableType.HTML;
 		}
 	}
 
+	/**
+	 * Returns the tag of the header cells of the table.
+	 * 
+	 * @return String the header cell tag
+	 */
+	private String tableHeaderTag() {
+		tableType();
+		return tableHeaderTag;
+	}
+
+	/**
+	 * Returns the tag of the rows of the table.
+	 * 
+	 * @return String the row tag
+	 */
+	private String tableRowTag() {
+		tableType();
+		return tableRowTag;
+	}
+
+	/**
+	 * Returns the tag of the data cells of the table.
+	 * 
+	 * @return String the data cell tag
+	 */
+	private String tableCellDataTag() {
+		tableType();
+		return tableCellDataTag;
+	}
+
+	/**
+	 * Returns the index of the first row element that holds data. The first row of an HTML table holds its
+	 * headers and is skipped. The headers of an ngx-datatable are not in a row, so none of its rows are skipped.
+	 * 
+	 * @return int 1 for an HTML table, 0 for an ngx-datatable
+	 */
+	private int firstDataRow() {
+		return tableType() == TableType.NGXDATATABLE ? 0 : 1;
+	}
+
 	/**
 	 * Resets table data when comparing multiple pages of the same table.
 	 */
 	protected void reset() {
-		if (headerElements != null) {
-			headerElements.clear();
-		}
+		headerElements = null;
 		if (headers != null) {
 			headers.clear();
 		}
-		if (rowElements != null) {
-			rowElements.clear();
-		}
+		rowElements = null;
 		if (rows != null) {
 			rows.clear();
 		}
 		if (columns != null) {
 			columns.clear();
 		}
+		scraped = false;
+		scrolled = false;
+		tableSnapshot = null;
+	}
+
+	/**
+	 * Forgets the headers and rows read so far, so the next step that uses this table reads it again. A
+	 * table is reused from the page between steps, and its contents can change without the page navigating.
+	 */
+	@Override
+	protected void reused() {
+		reset();
+	}
+
+	/**
+	 * Forgets what has been read from this table and the other elements cached on the page. Called before
+	 * clicking an element inside the table, since the click may change the table or the page.
+	 */
+	private void tableChanged() {
+		pageChanged();
+		reset();
+	}
+
+	/**
+	 * Returns an immutable, column by column copy of the headers and rows of the table, creating it from
+	 * the headers and rows the first time it is needed. Use reset() if the data in the table changes.
+	 * 
+	 * @return TableSnapshot the text of the table
+	 * @throws ElementNotFoundException if there is a problem finding the headers or rows
+	 */
+	protected TableSnapshot getOrCreateTableSnapshot() throws ElementNotFoundException {
+		if (tableSnapshot == null) {
+			tableSnapshot = new TableSnapshot(getOrCreateHeaders(), getOrCreateRows());
+		}
+		return tableSnapshot;
+	}
+
+	/**
+	 * Returns the snapshot of the table, throwing an exception if it does not have the given column.
+	 * 
+	 * @param columnHeader String the column header
+	 * @return TableSnapshot the text of the table
+	 * @throws ElementNotFoundException if the column does not exist, or there is a problem finding the headers or rows
+	 */
+	private TableSnapshot getSnapshotWithColumn(String columnHeader) throws ElementNotFoundException {
+		TableSnapshot snapshot = getOrCreateTableSnapshot();
+		if (!snapshot.hasColumn(columnHeader)) {
+			String errorMessage = StringUtils.format("{} column does not exist.", columnHeader);
+			log.error(errorMessage);
+			throw new ElementNotFoundException(errorMessage);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Reads the headers and the text of every cell, except those in the header row of an HTML table, with one script call and
+	 * stores them in the headers and rows lists that are empty. Returns false without changing anything if
+	 * scripted scraping is turned off or the script fails, so the caller can read the table element by element.
+	 * 
+	 * @return boolean true if the table was read with the script
+	 * @throws ElementNotFoundException if the table cannot be found
+	 */
+	protected boolean scrapeTable() throws ElementNotFoundException {
+		if (scraped) {
+			return true;
+		}
+		if (!ConfigurationManager.getConfiguration().isTableScrapingScripted() || !(driver instanceof JavascriptExecutor)) {
+			return false;
+		}
+		if (tableType() == TableType.NGXDATATABLE && scrollTable()) {
+			scraped = true;
+			return true;
+		}
+		JsonNode table;
+		try {
+			Object json = retryIfStale(element -> ((JavascriptExecutor) driver).executeScript(SCRAPE_SCRIPT, element, tableHeaderTag(), tableRowTag(), tableCellDataTag(), firstDataRow()));
+			table = json instanceof String ? ObjectMappers.getJsonMapper().readTree((String) json) : null;
+		} catch (WebDriverException | IOException e) {
+			log.debug("Could not read the {} table with a script, reading it one cell at a time: {}", tableType(), e.getMessage());
+			return false;
+		}
+		if (table == null || !table.isArray() || table.size() != 2) {
+			log.debug("The {} table script returned an unexpected result, reading it one cell at a time.", tableType());
+			return false;
+		}
+		if (headers.isEmpty()) {
+			for (JsonNode header : table.get(0)) {
+				headers.add(header.asText());
+			}
+		}
+		if (rows.isEmpty()) {
+			for (JsonNode row : table.get(1)) {
+				ArrayList<String> cells = new ArrayList<>(row.size());
+				for (JsonNode cell : row) {
+					cells.add(cell.asText());
+				}
+				rows.add(cells);
+			}
+		}
+		scraped = true;
+		log.trace("Read {} headers and {} rows with one script call.", headers.size(), rows.size());
+		return true;
+	}
+
+	/**
+	 * Reads an ngx-datatable that uses virtual scrolling, which only keeps the rows in view in the page, by
+	 * scrolling its body from top to bottom and reading the rows shown after each scroll. Rows are told apart
+	 * by their aria-rowindex, or by their position in the table if they do not have one, so a row seen twice
+	 * is only added once. Rows are added to the rows list as they are read, until the end of the table or
+	 * the tableMaxRows property is reached. The tableScrollChunk property sets how many rows are scrolled
+	 * at a time. As with every way of reading an ngx-datatable, the first row is kept, because its headers
+	 * are not in a row. The table is scrolled back to where it was when done.
+	 * <p>
+	 * The script timeout of the driver is set to the tableScrollTimeout property first. If the table cannot be
+	 * read to the end, a warning is logged and only the rows in view are read.
+	 * 
+	 * @return boolean true if the table uses virtual scrolling and was read, false if it does not or the script failed
+	 * @throws ElementNotFoundException if the table cannot be found
+	 */
+	protected boolean scrollTable() throws ElementNotFoundException {
+		int chunk = ConfigurationManager.getConfiguration().getTableScrollChunk();
+		int maxRows = ConfigurationManager.getConfiguration().getTableMaxRows();
+		boolean fillHeaders = headers.isEmpty();
+		boolean fillRows = rows.isEmpty();
+		Set<String> seen = new HashSet<>();
+		boolean restart = true;
+		boolean done = false;
+		int calls = 0;
+		long start = 0;
+		try {
+			// executeAsyncScript fails after the driver's script timeout, which Sentinel does not otherwise set and differs between drivers.
+			driver.manage().timeouts().setScriptTimeout(ConfigurationManager.getConfiguration().getTableScrollTimeout(), TimeUnit.MILLISECONDS);
+			while (!done) {
+				final boolean first = restart;
+				Object json = retryIfStale(element -> ((JavascriptExecutor) driver).executeAsyncScript(SCROLL_SCRIPT, element, tableHeaderTag(), tableRowTag(), tableCellDataTag(), chunk, first));
+				JsonNode result = json instanceof String ? ObjectMappers.getJsonMapper().readTree((String) json) : null;
+				calls++;
+				if (result == null || !result.path("virtual").asBoolean()) {
+					if (!first) {
+						log.warn("The {} table stopped scrolling after {} rows, reading only the rows in view.", tableType(), seen.size());
+						clearScrolledRows(fillHeaders, fillRows);
+					}
+					return false;
+				}
+				if (first) {
+					start = result.path("start").asLong();
+					if (fillHeaders) {
+						for (JsonNode header : result.path("headers")) {
+							headers.add(header.asText());
+						}
+					}
+				}
+				done = !fillRows || result.path("done").asBoolean();
+				for (JsonNode row : result.path("rows")) {
+					if (!seen.add(row.path(0).asText()) || !fillRows) {
+						continue;
+					}
+					if (rows.size() >= maxRows) {
+						log.warn("Read the first {} rows of the {} table and stopped. Set the tableMaxRows property to read more.", maxRows, tableType());
+						done = true;
+						break;
+					}
+					ArrayList<String> cells = new ArrayList<>(row.path(1).size());
+					for (JsonNode cell : row.path(1)) {
+						cells.add(cell.asText());
+					}
+					rows.add(cells);
+				}
+				restart = false;
+			}
+			final long scrollTop = start;
+			retryIfStale(element -> ((JavascriptExecutor) driver).executeScript(RESTORE_SCROLL_SCRIPT, element, scrollTop));
+		} catch (WebDriverException | IOException e) {
+			log.warn("Could not scroll through the {} table, reading only the rows in view: {}", tableType(), e.getMessage());
+			clearScrolledRows(fillHeaders, fillRows);
+			return false;
+		}
+		scrolled = true;
+		log.trace("Read {} headers and {} rows by scrolling the table with {} script calls.", headers.size(), rows.size(), calls);
+		return true;
+	}
+
+	/**
+	 * Removes the headers and rows added by scrollTable() when it could not read the whole table.
+	 * 
+	 * @param clearHeaders boolean true if the headers were added by scrollTable()
+	 * @param clearRows boolean true if the rows were added by scrollTable()
+	 */
+	private void clearScrolledRows(boolean clearHeaders, boolean clearRows) {
+		if (clearHeaders) {
+			headers.clear();
+		}
+		if (clearRows) {
+			rows.clear();
+		}
 	}
 
 	/**
@@ -97,7 +418,7 @@ public class Table extends PageElement {
 	 * @throws ElementNotFoundException if there is a problem finding the header or rows
 	 */
 	protected List<String> getOrCreateHeaders() throws ElementNotFoundException {
-		if (headers.isEmpty()) {
+		if (headers.isEmpty() && !scrapeTable()) {
 			getOrCreateHeaderElements();
 			for (WebElement header : headerElements) {
 				String headerText = header.getText();
@@ -131,7 +452,7 @@ public class Table extends PageElement {
 			headerElements = getHeaderElements();
 		}
 		if (headerElements == null) {
-			headerElements = getOrCreateRowElements().get(0).findElements(By.tagName(tableCellDataTag));
+			headerElements = getOrCreateRowElements().get(0).findElements(By.tagName(tableCellDataTag()));
 		}
 		log.trace("Number of Header Elements: {}", headerElements.size());
 		return headerElements;
@@ -144,7 +465,7 @@ public class Table extends PageElement {
 	 * @throws ElementNotFoundException if the request is malformed
 	 */
 	protected List<WebElement> getHeaderElements() throws ElementNotFoundException {
-		headerElements = this.element().findElements(By.tagName(tableHeaderTag));
+		headerElements = this.element().findElements(By.tagName(tableHeaderTag()));
 		return headerElements;
 	}
 	
@@ -168,23 +489,24 @@ public class Table extends PageElement {
 	 */
 	protected List<WebElement> getOrCreateRowElements() throws ElementNotFoundException  {
 		if (rowElements == null) {
-			rowElements = this.element().findElements(By.tagName(tableRowTag));
+			rowElements = this.element().findElements(By.tagName(tableRowTag()));
 		}
 		return rowElements;
 	}
 	
 	/**
-	 * Returns array of cell arrays, with data for each cell, in the table. Initial row of table headers is removed
+	 * Returns array of cell arrays, with data for each cell, in the table. Initial row of table headers is removed,
+	 * except for an ngx-datatable, whose headers are not in a row.
 	 * 
 	 * @return List&lt;ArrayList&lt;String&gt;&gt;
 	 * @throws ElementNotFoundException if the row elements cannot be found
 	 */
 	protected List<ArrayList<String>> getOrCreateRows() throws ElementNotFoundException {
-		if (rows.isEmpty()) {
-			List<WebElement> dataRows = getOrCreateRowElements();
-				dataRows.remove(0);
+		if (rows.isEmpty() && !scrapeTable()) {
+			List<WebElement> rowElementList = getOrCreateRowElements();
+			List<WebElement> dataRows = rowElementList.subList(Math.min(firstDataRow(), rowElementList.size()), rowElementList.size());
 			for (WebElement row : dataRows) {
-				List<WebElement> cellElements = row.findElements(By.tagName(tableCellDataTag));
+				List<WebElement> cellElements = row.findElements(By.tagName(tableCellDataTag()));
 				ArrayList<String> cells = new ArrayList<String>();
 				for (WebElement cell : cellElements) {
 					cells.add(cell.getText());
@@ -197,15 +519,24 @@ public class Table extends PageElement {
 	}
 
 	/**
-	 * Returns number of row elements from getOrCreateRowElements
+	 * Returns number of row elements from getOrCreateRowElements, not counting the header row of an HTML table.
+	 * For an ngx-datatable that uses virtual
+	 * scrolling, returns the number of rows read by scrolling through it instead, as most of its rows are
+	 * not in the page at any one time.
 	 * 
 	 * @see com.dougnoel.sentinel.elements.Table#getOrCreateRowElements()
+	 * @see com.dougnoel.sentinel.elements.Table#scrollTable()
 	 * @return int the number of row elements
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public int getNumberOfRows() throws ElementNotFoundException  {
-		//TODO: Ensure I should be returning -1
-		return getOrCreateRowElements().size() - 1;
+		if (tableType() == TableType.NGXDATATABLE && ConfigurationManager.getConfiguration().isTableScrapingScripted()) {
+			getOrCreateRows();
+			if (scrolled) {
+				return rows.size();
+			}
+		}
+		return getOrCreateRowElements().size() - firstDataRow();
 	}
 
 	/**
@@ -250,8 +581,8 @@ public class Table extends PageElement {
 	 * @return List&lt;WebElement;&gt; 
 	 */
 	protected List<WebElement> getCells(WebElement tableRow) {
-		List<WebElement> cells = tableRow.findElements(By.tagName(tableCellDataTag));
-		log.debug("First Cell: {}", tableRow.findElement(By.tagName(tableCellDataTag)));
+		List<WebElement> cells = tableRow.findElements(By.tagName(tableCellDataTag()));
+		log.debug("First Cell: {}", tableRow.findElement(By.tagName(tableCellDataTag())));
 		log.debug("Row Cells: {}", cells);
 		return cells;
 	}
@@ -266,7 +597,7 @@ public class Table extends PageElement {
 	 */
 	public void storeTable(int pageNumber) throws ElementNotFoundException {
 		reset();
-		tables.put(pageNumber, getOrCreateRows());
+		tables.put(pageNumber, new ArrayList<>(getOrCreateRows())); // A copy, since reset() clears the rows list.
 	}
 
 	/**
@@ -316,13 +647,13 @@ public class Table extends PageElement {
 	public WebElement getElementInRowThatContains(int ordinalRow, By elementLocator) throws ElementNotFoundException {
 		WebElement element;
 		if (ordinalRow == -1) {
-			//Set to the last row
-			ordinalRow = getNumberOfRows();
+			//Set to the last row in the page, which for a virtual scrolling table may not be the last row read by scrolling
+			ordinalRow = getOrCreateRowElements().size() - firstDataRow();
 		}
-		String locator = tableType == TableType.NGXDATATABLE ? "//span" : "//" + tableCellDataTag;
+		String locator = tableType() == TableType.NGXDATATABLE ? "//span" : "//" + tableCellDataTag();
 		
 		try {
-			element = getOrCreateRowElements().get(ordinalRow--)
+			element = getOrCreateRowElements().get(ordinalRow - 1 + firstDataRow())
 					.findElement(By.xpath(locator))
 					.findElement(elementLocator);
 		} catch (org.openqa.selenium.NoSuchElementException e) {
@@ -345,8 +676,8 @@ public class Table extends PageElement {
 	 */
 	public WebElement getElementInRowThatContains(By rowLocator, By elementLocator) throws ElementNotFoundException {
 		WebElement element;
-		String firstLocator = tableType == TableType.NGXDATATABLE ? "//span" : "//" + tableCellDataTag;
-		String secondLocator = tableType == TableType.NGXDATATABLE ? "//../../..//*" : "//..//*";
+		String firstLocator = tableType() == TableType.NGXDATATABLE ? "//span" : "//" + tableCellDataTag();
+		String secondLocator = tableType() == TableType.NGXDATATABLE ? "//../../..//*" : "//..//*";
 
 		try {
 			element = this.element()
@@ -376,7 +707,9 @@ public class Table extends PageElement {
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public void clickElementInRowThatContains(String elementText, String textToClick) throws ElementNotFoundException {
-		getElementInRowThatContains(elementText, textToClick).click();
+		WebElement element = getElementInRowThatContains(elementText, textToClick);
+		tableChanged();
+		element.click();
 	}
 
 	/**
@@ -387,7 +720,9 @@ public class Table extends PageElement {
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public void clickElementInRowThatContains(By rowLocator, By elementLocator) throws ElementNotFoundException {
-		getElementInRowThatContains(rowLocator, elementLocator).click();
+		WebElement element = getElementInRowThatContains(rowLocator, elementLocator);
+		tableChanged();
+		element.click();
 	}
 	
 	/**
@@ -398,7 +733,9 @@ public class Table extends PageElement {
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public void clickElementInRowThatContains(int ordinalRow, By elementLocator) throws ElementNotFoundException {
-		getElementInRowThatContains(ordinalRow, elementLocator).click();
+		WebElement element = getElementInRowThatContains(ordinalRow, elementLocator);
+		tableChanged();
+		element.click();
 	}
 	
 	/**
@@ -410,25 +747,18 @@ public class Table extends PageElement {
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public boolean verifyAllColumnCellsContain(String columnHeader, String textToMatch) throws ElementNotFoundException  {
-		getOrCreateHeaders();
-		ArrayList<String> column = getOrCreateColumns().get(columnHeader);
-		if (column == null) {
-			String errorMessage = StringUtils.format("{} column does not exist.", columnHeader);
+		TableSnapshot snapshot = getSnapshotWithColumn(columnHeader);
+		int row;
+		try {
+			row = snapshot.indexOfCellNotContaining(columnHeader, textToMatch);
+		} catch (NullPointerException e) {
+			String errorMessage = StringUtils.format("NullPointerException triggered when searching for the value {} in the {} column.", textToMatch, columnHeader);
 			log.error(errorMessage);
-			throw new ElementNotFoundException(errorMessage);
+			throw new ElementNotFoundException(errorMessage, e);
 		}
-		for (String cell : column) {
-			try {
-				if (!cell.contains(textToMatch)) {
-					log.debug("Not all values in the {} column are equal to {}. Cell contained the data: {}. False result returned.", columnHeader, textToMatch, cell);
-					return false;
-				}
-			} catch (NullPointerException e) {
-				String errorMessage = StringUtils.format("NullPointerException triggered when searching for the value {} in the {} column. Value found: {}", textToMatch, columnHeader, cell);
-				log.error(errorMessage);
-				throw new ElementNotFoundException(errorMessage, e);
-			}
-
+		if (row >= 0) {
+			log.debug("Not all values in the {} column are equal to {}. Cell contained the data: {}. False result returned.", columnHeader, textToMatch, snapshot.getCell(row, columnHeader));
+			return false;
 		}
 		return true;
 	}
@@ -442,28 +772,17 @@ public class Table extends PageElement {
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public boolean verifyAnyColumnCellContains(String columnHeader, String textToMatch) throws ElementNotFoundException  {
-		getOrCreateHeaders();
-		ArrayList<String> column = getOrCreateColumns().get(columnHeader);
-		if (column == null) {
-			String errorMessage = StringUtils.format("{} column does not exist.", columnHeader);
-			log.error(errorMessage);
-			throw new ElementNotFoundException(errorMessage);
-		}
-		for (String cell : column) {
-			try {
-				if (cell.contains(textToMatch)) {
-					return true;
-				}
-				else {
-					log.trace("Looking for {} in the {} column. Found: {}", textToMatch, columnHeader, cell);
-				}
-			} catch (NullPointerException e) {
-				String errorMessage = StringUtils.format("NullPointerException triggered when searching for the value {} in the {} column. Value found: {}", textToMatch, columnHeader, cell);
-				log.error(errorMessage);
-				throw new ElementNotFoundException(errorMessage, e);
+		TableSnapshot snapshot = getSnapshotWithColumn(columnHeader);
+		try {
+			if (snapshot.indexOfCellContaining(columnHeader, textToMatch) >= 0) {
+				return true;
 			}
-
+		} catch (NullPointerException e) {
+			String errorMessage = StringUtils.format("NullPointerException triggered when searching for the value {} in the {} column.", textToMatch, columnHeader);
+			log.error(errorMessage);
+			throw new ElementNotFoundException(errorMessage, e);
 		}
+		log.trace("Looking for {} in the {} column. Found: {}", textToMatch, columnHeader, snapshot.getColumn(columnHeader));
 		log.debug("No values in the {} column are equal to {}. False result returned. Turn on trace logging level to see all values found.", columnHeader, textToMatch);
 		return false;
 	}
@@ -487,7 +806,7 @@ public class Table extends PageElement {
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public boolean verifyColumnCellsAreSortedDescending(String columnName) throws ElementNotFoundException {
-		return verifyColumnCellsAreSorted(columnName, Collections.reverseOrder());
+		return verifyColumnCellsAreSorted(columnName, getColumnComparator(columnName).reversed());
 	}
 	
 	/**
@@ -497,74 +816,127 @@ public class Table extends PageElement {
 	 * unless you have a custom sort to pass. Passing the wrong value can cause errors.
 	 * 
 	 * @param columnName String the name of the column you want to evaluate
-	 * @param sortOrder Comparator the sort you want to do on the ArrayList&lt;String;&gt;, passing null will sort in ascending order
+	 * @param sortOrder Comparator the sort you want to do on the ArrayList&lt;String;&gt;, passing null will use the column's ascending order
 	 * @return boolean true is the column is sorted in the passed sort order, false if it is not sorted correctly
 	 * @throws ElementNotFoundException if an element is not found
 	 */
-	@SuppressWarnings("unchecked")
-	public boolean verifyColumnCellsAreSorted(String columnName, @SuppressWarnings("rawtypes") Comparator sortOrder) throws ElementNotFoundException {
-		getOrCreateHeaders();
-		ArrayList<String> column = getOrCreateColumns().get(columnName);
-		ArrayList<String> sortedColumn = (ArrayList<String>) column.clone();
-//		//Dealing with numbers in strings
-//		if (columnName.equalsIgnoreCase("MemberDistnce")) {
-//			List<Float> distances = new ArrayList<>();
-//			for(String str : sortedColumn) {
-//				distances.add(Float.valueOf(str));
-//			}
-//			Collections.sort(distances);
-//		}
-		
-		if (sortOrder == null)
-		{
-			Collections.sort(sortedColumn);
-		} else {
-			Collections.sort(sortedColumn, sortOrder);	
+	public boolean verifyColumnCellsAreSorted(String columnName, Comparator<String> sortOrder) throws ElementNotFoundException {
+		return findFirstUnsortedRow(columnName, sortOrder) == -1;
+	}
+
+	/**
+	 * Returns the first row whose cell in the given column sorts before the cell in the row above it. Each pair
+	 * of neighboring cells is compared once, and large columns are compared in parallel.
+	 * 
+	 * @param columnName String the name of the column you want to evaluate
+	 * @param sortOrder Comparator&lt;String&gt; the expected order, passing null will use the column's ascending order
+	 * @return int the row number, starting at 1 for the first row under the headers, or -1 if the column is sorted
+	 * @throws ElementNotFoundException if the column does not exist
+	 * @throws IllegalArgumentException if the comparator cannot read a cell, e.g. a date column with a cell that is not a date
+	 */
+	public int findFirstUnsortedRow(String columnName, Comparator<String> sortOrder) throws ElementNotFoundException {
+		TableSnapshot snapshot = getSnapshotWithColumn(columnName);
+		Comparator<String> order = sortOrder == null ? getColumnComparator(columnName) : sortOrder;
+		int row = snapshot.indexOfFirstUnsorted(columnName, order);
+		if (row == -1) {
+			return -1;
 		}
-		if (column.equals(sortedColumn)) {
-			return true;
+		log.debug("The {} column is not sorted: \"{}\" in row {} comes before \"{}\" in row {}.",
+				columnName, snapshot.getCell(row - 1, columnName), row, snapshot.getCell(row, columnName), row + 1);
+		return row + 1;
+	}
+
+	/**
+	 * Sets how the cells of a column are compared when checking the column is sorted, using the default
+	 * pattern of the sort type.
+	 * 
+	 * @param columnName String the name of the column
+	 * @param sortType SortType how to compare the cells
+	 */
+	public void setColumnSortType(String columnName, SortType sortType) {
+		setColumnSortType(columnName, sortType, null);
+	}
+
+	/**
+	 * Sets how the cells of a column are compared when checking the column is sorted.
+	 * 
+	 * @param columnName String the name of the column
+	 * @param sortType SortType how to compare the cells
+	 * @param pattern String the date pattern or language tag for the sort type, or null for the default
+	 * @see com.dougnoel.sentinel.elements.CellComparators
+	 */
+	public void setColumnSortType(String columnName, SortType sortType, String pattern) {
+		setColumnComparator(columnName, CellComparators.get(sortType, pattern));
+	}
+
+	/**
+	 * Sets the comparator used to check a column is sorted in ascending order. Descending order uses its reverse.
+	 * 
+	 * @param columnName String the name of the column
+	 * @param comparator Comparator&lt;String&gt; the ascending order of the column, or null to compare the cells as text
+	 */
+	public void setColumnComparator(String columnName, Comparator<String> comparator) {
+		if (comparator == null) {
+			columnComparators.remove(columnName);
+		} else {
+			columnComparators.put(columnName, comparator);
 		}
-		return false;
+	}
+
+	/**
+	 * Returns the comparator used to check a column is sorted in ascending order. Columns compare their cells
+	 * as text unless a sort type or comparator was set for them.
+	 * 
+	 * @param columnName String the name of the column
+	 * @return Comparator&lt;String&gt; the ascending order of the column
+	 */
+	public Comparator<String> getColumnComparator(String columnName) {
+		Comparator<String> comparator = columnComparators.get(columnName);
+		return comparator == null ? CellComparators.get(SortType.TEXT) : comparator;
 	}
 	
 	/**
-	 * Returns &lt;code&gt;true&lt;/code&gt; if the column cells are unique
+	 * Returns &lt;code&gt;true&lt;/code&gt; if the column cells are unique. A cell is a duplicate if its text is
+	 * the same as, or inside, another cell.
 	 * 
 	 * @param columnHeader String text of the given column header to search
 	 * @return boolean true if column cells are unique, false if duplicates are found, throws error otherwise
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public boolean verifyColumnCellsAreUnique(String columnHeader) throws ElementNotFoundException  {
-		if (verifyColumnExists(columnHeader) == false) {
-			log.error("IllegalArgumentException: Column header \"{}\" does not exist.", columnHeader);
-			throw new IllegalArgumentException("Column header \"" + columnHeader + "\" does not exist.");
-		}
-		getOrCreateHeaders();
-		ArrayList<String> column = getOrCreateColumns().get(columnHeader);
-		if (column.isEmpty()) {
-			log.error("Header text: {}", columnHeader);
-			throw new IllegalArgumentException("Column header \"" + columnHeader + "\" does not exist.");
-		}
-		for (String cell : column) {
-			try {
-				int count = 0;
-				for (String cell2 : column) {
-					if (cell2.contains(cell)) {
-						count++;
-					}
-					if (count > 1) {
-						log.error("False result returned. Header text: {} | Cell data: {}", columnHeader, cell);
-						return false;
-					}
-				}
+		return verifyColumnCellsAreUnique(columnHeader, MatchType.CONTAINS);
+	}
 
-			} catch (NullPointerException e) {
-				log.error("NullPointerException thrown. Header text: {} | Cell data: {}", columnHeader, cell);
-				throw e;
-			}
+	/**
+	 * Returns &lt;code&gt;true&lt;/code&gt; if the column cells are unique. With MatchType.CONTAINS a cell is also a
+	 * duplicate if its text is inside another cell. Every group of duplicates is logged.
+	 * 
+	 * @param columnHeader String text of the given column header to search
+	 * @param matchType MatchType how to compare cells
+	 * @return boolean true if column cells are unique, false if duplicates are found, throws error otherwise
+	 * @throws ElementNotFoundException if an element is not found
+	 */
+	public boolean verifyColumnCellsAreUnique(String columnHeader, MatchType matchType) throws ElementNotFoundException  {
+		return findDuplicateCells(columnHeader, matchType).isEmpty();
+	}
 
+	/**
+	 * Returns a description of every group of cells in the column that are not unique, e.g.
+	 * <code>Bob in rows 1, 4</code>. Rows are numbered from 1, not counting the header row.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.Table#findDuplicateRows(MatchType, String...)
+	 * @param columnHeader String text of the given column header to search
+	 * @param matchType MatchType how to compare cells
+	 * @return List&lt;String&gt; the duplicate groups, empty if every cell is unique
+	 * @throws ElementNotFoundException if the column does not exist or an element is not found
+	 * @throws IllegalArgumentException if the column has no cells
+	 */
+	public List<String> findDuplicateCells(String columnHeader, MatchType matchType) throws ElementNotFoundException  {
+		if (getSnapshotWithColumn(columnHeader).getRowCount() == 0) {
+			log.error("Header text: {}", columnHeader);
+			throw new IllegalArgumentException("Column header \"" + columnHeader + "\" has no cells.");
 		}
-		return true;
+		return findDuplicateRows(matchType, columnHeader);
 	}
 
 	/**
@@ -575,16 +947,12 @@ public class Table extends PageElement {
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public boolean verifyColumnExists(String columnName) throws ElementNotFoundException  {
-		for (String header : getOrCreateHeaders()) {
-			if (header.contains(columnName)) {
-				return true;
-			}
-		}
-		return false;
+		return getOrCreateTableSnapshot().hasColumnContaining(columnName);
 	}
 
 	/**
-	 * Returns true if the row cell's values are unique for the given column name
+	 * Returns true if no two rows have the same text in all of the given columns. A row is also a duplicate
+	 * if each of its cells is inside the cell in the same column of another row.
 	 * 
 	 * @param columnName String comma delimited columns list
 	 * @return boolean true if all cells values are unique, false if any duplicates
@@ -596,62 +964,64 @@ public class Table extends PageElement {
 	}
 
 	/**
-	 * Returns true if the cell values are unique for the given array of column names
+	 * Returns true if no two rows have the same text in all of the given columns. A row is also a duplicate
+	 * if each of its cells is inside the cell in the same column of another row.
 	 * 
 	 * @param columnsHeader string[] the array of column name to validate
 	 * @return boolean true if all cells values are unique, false if any duplicates
 	 * @throws ElementNotFoundException if an element is not found
 	 */
 	public boolean verifyRowCellsAreUnique(String[] columnsHeader) throws ElementNotFoundException {
+		return verifyRowCellsAreUnique(MatchType.CONTAINS, columnsHeader);
+	}
+
+	/**
+	 * Returns true if the rows are unique in the given columns. With MatchType.CONTAINS a row is also a
+	 * duplicate if each of its cells is inside the cell in the same column of another row. Every group of
+	 * duplicates is logged.
+	 * 
+	 * @param matchType MatchType how to compare cells
+	 * @param columnsHeader String... the columns to validate
+	 * @return boolean true if all cells values are unique, false if any duplicates
+	 * @throws ElementNotFoundException if an element is not found
+	 */
+	public boolean verifyRowCellsAreUnique(MatchType matchType, String... columnsHeader) throws ElementNotFoundException {
+		return findDuplicateRows(matchType, columnsHeader).isEmpty();
+	}
 
-		getOrCreateHeaders();
-		getOrCreateRows();
-		List<Integer> indexes = new ArrayList<Integer>();
+	/**
+	 * Returns a description of every group of rows that are not unique in the given columns, e.g.
+	 * <code>[Bob, Smith] in rows 1, 4</code>. Rows are numbered from 1, not counting the header row.
+	 * The cells of each row are compared as a tuple using hash lookups.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.TableSnapshot#findDuplicates(List, MatchType)
+	 * @param matchType MatchType how to compare cells
+	 * @param columnsHeader String... the columns to validate
+	 * @return List&lt;String&gt; the duplicate groups, empty if every row is unique
+	 * @throws ElementNotFoundException if a column does not exist or an element is not found
+	 */
+	public List<String> findDuplicateRows(MatchType matchType, String... columnsHeader) throws ElementNotFoundException {
+		TableSnapshot snapshot = getOrCreateTableSnapshot();
 		for (String columnHeader : columnsHeader) {
-			if (verifyColumnExists(columnHeader) == false) {
+			if (!snapshot.hasColumn(columnHeader)) {
 				String errorMessage = StringUtils.format("Column header \"{}\" does not exist.", columnHeader);
 				log.error(errorMessage);
 				throw new NoSuchColumnException(errorMessage);
 			}
-			for (int i = 0; i < headers.size(); i++) {
-
-				if (columnHeader.equals(headers.get(i)))
-					indexes.add(i);
-			}
 		}
-		for (List<String> cells : rows) {
-
-			String cellValue = getCellsValue(indexes, cells);
-
-			int count = 0;
-			for (List<String> cells2 : rows) {
-				String cellValue2 = getCellsValue(indexes, cells2);
-				if (cellValue2.contains(cellValue)) {
-					count++;
-				}
-				if (count > 1) {
-					log.trace("False result returned. Header text: {} | Cell data: {}", indexes, cellValue);
-					return false;
-				}
+		List<String> duplicates = new ArrayList<>();
+		for (Map.Entry<List<String>, List<Integer>> group : snapshot.findDuplicates(Arrays.asList(columnsHeader), matchType).entrySet()) {
+			StringBuilder rowNumbers = new StringBuilder();
+			for (int row : group.getValue()) {
+				rowNumbers.append(rowNumbers.length() == 0 ? "" : ", ").append(row + 1);
 			}
+			Object key = group.getKey().size() == 1 ? group.getKey().get(0) : group.getKey();
+			duplicates.add(StringUtils.format("{} in rows {}", key, rowNumbers));
 		}
-
-		return true;
-	}
-
-	/**
-	 * Returns all the cells values in the listed columns
-	 * 
-	 * @param indexes List&lt;Integer&gt; listed column index
-	 * @param cells List&lt;String&gt; row cells
-	 * @return String of listed columns row values
-	 */
-	private String getCellsValue(List<Integer> indexes, List<String> cells) {
-		String cellValues = "";
-		for (int index = 0; index < indexes.size(); index++) {
-			cellValues = cellValues.concat(cells.get(indexes.get(index)));
+		if (!duplicates.isEmpty()) {
+			log.error("{} duplicate group(s) found in the {} column(s): {}", duplicates.size(), Arrays.asList(columnsHeader), duplicates);
 		}
-		return cellValues;
+		return duplicates;
 	}
 
 }
@@ -0,0 +1,269 @@
+package com.dougnoel.sentinel.elements;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.dougnoel.sentinel.enums.MatchType;
+
+/**
+ * An immutable copy of the text in a table, stored by column.
+ * <p>
+ * Each column is a String array, and the headers are interned so that looking a column up by a header read from
+ * a feature file is a hash lookup.
+ * <p>
+ * Cells missing from short rows are null. Methods that look at the text of cells throw a NullPointerException
+ * when they reach one, as reading the text of a missing cell would, except findDuplicates, where a missing
+ * cell only matches another missing cell.
+ *
+ * @see com.dougnoel.sentinel.elements.Table#getOrCreateTableSnapshot()
+ */
+public class TableSnapshot {
+	/* Columns with more cells than this are checked for sort order in parallel. */
+	static final int PARALLEL_THRESHOLD = 10000;
+
+	private final String[] headers;
+	private final String[][] columns;
+	private final int rowCount;
+	private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+
+	/**
+	 * Creates a snapshot of a table. The lists are copied, so later changes to them do not affect the snapshot.
+	 *
+	 * @param headers List&lt;String&gt; the column headers
+	 * @param rows List&lt;? extends List&lt;String&gt;&gt; the text of the cells of each row, in column order
+	 */
+	public TableSnapshot(List<String> headers, List<? extends List<String>> rows) {
+		this.headers = new String[headers.size()];
+		this.columns = new String[headers.size()][rows.size()];
+		this.rowCount = rows.size();
+		for (int column = 0; column < this.headers.length; column++) {
+			String header = headers.get(column);
+			this.headers[column] = header == null ? null : header.intern();
+			columnIndexes.put(this.headers[column], column);
+		}
+		for (int row = 0; row < rowCount; row++) {
+			List<String> cells = rows.get(row);
+			for (int column = 0; column < this.headers.length && column < cells.size(); column++) {
+				columns[column][row] = cells.get(column);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of rows, not counting the header row.
+	 *
+	 * @return int the number of rows
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Returns true if a column has exactly the given header.
+	 *
+	 * @param header String the column header
+	 * @return boolean true if the column exists
+	 */
+	public boolean hasColumn(String header) {
+		return columnIndexes.containsKey(header);
+	}
+
+	/**
+	 * Returns true if any column header contains the given text.
+	 *
+	 * @param text String the text to look for
+	 * @return boolean true if a header contains the text
+	 */
+	public boolean hasColumnContaining(String text) {
+		if (columnIndexes.containsKey(text)) {
+			return true;
+		}
+		for (String header : headers) {
+			if (header != null && header.contains(text)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the text of the cells in a column.
+	 *
+	 * @param header String the column header
+	 * @return List&lt;String&gt; the cells from top to bottom, or null if there is no such column
+	 */
+	public List<String> getColumn(String header) {
+		Integer column = columnIndexes.get(header);
+		return column == null ? null : Collections.unmodifiableList(Arrays.asList(columns[column]));
+	}
+
+	/**
+	 * Returns the text of a cell.
+	 *
+	 * @param row int the row, starting at 0
+	 * @param header String the column header
+	 * @return String the text of the cell, or null if there is no such column or the row has no such cell
+	 */
+	public String getCell(int row, String header) {
+		Integer column = columnIndexes.get(header);
+		return column == null ? null : columns[column][row];
+	}
+
+	/**
+	 * Returns the row of the first cell in a column that contains the given text.
+	 *
+	 * @param header String the column header
+	 * @param text String the text to look for
+	 * @return int the row, or -1 if no cell contains the text or there is no such column
+	 */
+	public int indexOfCellContaining(String header, String text) {
+		Integer column = columnIndexes.get(header);
+		if (column == null) {
+			return -1;
+		}
+		return search(column, text, true);
+	}
+
+	/**
+	 * Returns the row of the first cell in a column that does not contain the given text.
+	 *
+	 * @param header String the column header
+	 * @param text String the text every cell should contain
+	 * @return int the row, or -1 if every cell contains the text or there is no such column
+	 */
+	public int indexOfCellNotContaining(String header, String text) {
+		Integer column = columnIndexes.get(header);
+		if (column == null) {
+			return -1;
+		}
+		return search(column, text, false);
+	}
+
+	/**
+	 * Returns the row of the first cell that sorts before the cell above it, checking each pair of neighboring
+	 * cells once. Columns with more than PARALLEL_THRESHOLD cells are checked in parallel.
+	 *
+	 * @param header String the column header
+	 * @param sortOrder Comparator&lt;String&gt; the order, or null for ascending natural order
+	 * @return int the row, starting at 0, or -1 if the column is sorted or there is no such column
+	 */
+	public int indexOfFirstUnsorted(String header, Comparator<String> sortOrder) {
+		Integer column = columnIndexes.get(header);
+		if (column == null) {
+			return -1;
+		}
+		String[] cells = columns[column];
+		Comparator<String> order = sortOrder == null ? Comparator.naturalOrder() : sortOrder;
+		if (cells.length > PARALLEL_THRESHOLD) {
+			return IntStream.range(1, cells.length).parallel()
+					.filter(row -> order.compare(cells[row - 1], cells[row]) > 0)
+					.findFirst().orElse(-1);
+		}
+		for (int row = 1; row < cells.length; row++) {
+			if (order.compare(cells[row - 1], cells[row]) > 0) {
+				return row;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns every group of rows that are not unique in the given columns, keyed by the cells the rows share.
+	 * The cells of each row are compared as a tuple, so multi-column keys are hashed without joining them into
+	 * one string.
+	 * <p>
+	 * With MatchType.EQUALS, rows are duplicates if every one of their cells in the columns is equal, which is
+	 * found with one hash lookup per row. With MatchType.CONTAINS, a row is also a duplicate of every row whose
+	 * cells contain its cells. Rows with equal cells are still grouped by hash, but the distinct tuples are then
+	 * compared with each other, so this takes time proportional to the square of the number of distinct tuples.
+	 *
+	 * @param headers List&lt;String&gt; the headers of the columns that make up the key
+	 * @param matchType MatchType how to compare cells
+	 * @return Map&lt;List&lt;String&gt;, List&lt;Integer&gt;&gt; the rows, starting at 0, of each duplicate group in the order the groups are first found
+	 * @throws IllegalArgumentException if there is no column with one of the headers
+	 */
+	public Map<List<String>, List<Integer>> findDuplicates(List<String> headers, MatchType matchType) {
+		int[] keyColumns = new int[headers.size()];
+		for (int i = 0; i < keyColumns.length; i++) {
+			Integer column = columnIndexes.get(headers.get(i));
+			if (column == null) {
+				throw new IllegalArgumentException("Column header \"" + headers.get(i) + "\" does not exist.");
+			}
+			keyColumns[i] = column;
+		}
+		Map<List<String>, List<Integer>> groups = new LinkedHashMap<>();
+		for (int row = 0; row < rowCount; row++) {
+			String[] key = new String[keyColumns.length];
+			for (int i = 0; i < keyColumns.length; i++) {
+				key[i] = columns[keyColumns[i]][row];
+			}
+			groups.computeIfAbsent(Arrays.asList(key), k -> new ArrayList<>(1)).add(row);
+		}
+		if (matchType == MatchType.CONTAINS) {
+			List<List<String>> keys = new ArrayList<>(groups.keySet());
+			Map<List<String>, List<Integer>> containing = new LinkedHashMap<>();
+			for (List<String> key : keys) {
+				List<Integer> rows = new ArrayList<>(groups.get(key));
+				for (List<String> other : keys) {
+					if (other != key && containsAll(other, key)) {
+						rows.addAll(groups.get(other));
+					}
+				}
+				Collections.sort(rows);
+				containing.put(key, rows);
+			}
+			groups = containing;
+		}
+		groups.values().removeIf(rows -> rows.size() < 2);
+		return groups;
+	}
+
+	/**
+	 * Returns true if every cell of a tuple contains the cell in the same position of another. A missing cell
+	 * only contains, and is only contained in, another missing cell.
+	 *
+	 * @param tuple List&lt;String&gt; the cells that may contain the others
+	 * @param contained List&lt;String&gt; the cells to look for
+	 * @return boolean true if every cell is contained
+	 */
+	private static boolean containsAll(List<String> tuple, List<String> contained) {
+		for (int i = 0; i < tuple.size(); i++) {
+			String cell = tuple.get(i);
+			String other = contained.get(i);
+			if (cell == null || other == null) {
+				if (cell != other) {
+					return false;
+				}
+			} else if (!cell.contains(other)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the row of the first cell that contains, or the first cell that does not contain, the text.
+	 *
+	 * @param column int the column
+	 * @param text String the text to look for
+	 * @param containing boolean true to find a cell containing the text, false to find one that does not
+	 * @return int the row, or -1 if there is none
+	 */
+	private int search(int column, String text, boolean containing) {
+		String[] cells = columns[column];
+		for (int row = 0; row < cells.length; row++) {
+			if (cells[row].contains(text) == containing) {
+				return row;
+			}
+		}
+		return -1;
+	}
+}
@@ -18,6 +18,15 @@ public class Textbox extends PageElement {
 	public Textbox(SelectorType selectorType, String selectorValue) {
 		super(selectorType, selectorValue);
 	}
+
+	/**
+	 * Implementation of a Textbox that can be found with any of several selectors. The first one that matches is used.
+	 * 
+	 * @param selectors Selector... one or more selectors, in order of preference
+	 */
+	public Textbox(Selector... selectors) {
+		super(selectors);
+	}
 	
 	/**
 	 * Type text into a Textbox PageElement. Created as an alias for sendKeys.
@@ -0,0 +1,16 @@
+package com.dougnoel.sentinel.enums;
+
+/**
+ * A list of things to do when a step goes over its budget of browser commands or time.
+ * Stored in an enum to prevent user error in calling methods.
+ * <p>
+ * <b>Valid Budget Actions:</b>
+ * <ul>
+ * <li>FAIL - Fail the scenario once it has finished</li>
+ * <li>WARN - Log a warning and let the scenario pass</li>
+ * </ul>
+ */
+public enum BudgetAction {
+	FAIL,
+	WARN;
+}
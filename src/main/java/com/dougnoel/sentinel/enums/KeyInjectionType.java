@@ -0,0 +1,17 @@
+package com.dougnoel.sentinel.enums;
+
+/**
+ * A list of ways to press keys on an element one at a time. Stored in an enum to prevent user error in calling methods.
+ * <p>
+ * <b>Valid Key Injection Options:</b>
+ * <ul>
+ * <li>ACTIONS - WebDriver Actions, sent to the browser as a single chain of key presses</li>
+ * <li>JAVASCRIPT - keydown, keypress, input and keyup events dispatched on the element by a script</li>
+ * <li>ROBOT - java.awt.Robot operating system key presses, which need a display and do not work headless</li>
+ * </ul>
+ */
+public enum KeyInjectionType {
+	ACTIONS,
+	JAVASCRIPT,
+	ROBOT;
+}
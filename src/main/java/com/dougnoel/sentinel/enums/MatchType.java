@@ -0,0 +1,15 @@
+package com.dougnoel.sentinel.enums;
+
+/**
+ * A list of ways to compare the text of two table cells. Stored in an enum to prevent user error in calling methods.
+ * <p>
+ * <b>Valid Match Options:</b>
+ * <ul>
+ * <li>EQUALS - The texts are the same</li>
+ * <li>CONTAINS - One text contains the other</li>
+ * </ul>
+ */
+public enum MatchType {
+	EQUALS,
+	CONTAINS;
+}
@@ -0,0 +1,18 @@
+package com.dougnoel.sentinel.enums;
+
+/**
+ * A list of ways to space out the checks made while waiting for an element to appear on a web page.
+ * Stored in an enum to prevent user error in calling methods.
+ * <p>
+ * <b>Valid Polling Options:</b>
+ * <ul>
+ * <li>FIXED - Wait the same interval between every check</li>
+ * <li>EXPONENTIAL - Double the interval after every check, up to the maximum interval</li>
+ * <li>JITTERED - Wait a random time between the interval and the exponential delay, so that many waiting elements do not poll in lockstep</li>
+ * </ul>
+ */
+public enum PollingType {
+	FIXED,
+	EXPONENTIAL,
+	JITTERED;
+}
@@ -0,0 +1,24 @@
+package com.dougnoel.sentinel.enums;
+
+/**
+ * A list of ways to compare the text of table cells when checking sort order. Stored in an enum to prevent
+ * user error in calling methods.
+ * <p>
+ * <b>Valid Sort Options:</b>
+ * <ul>
+ * <li>TEXT - Plain String order, so "10" comes before "9"</li>
+ * <li>CASE_INSENSITIVE - String order ignoring case</li>
+ * <li>NATURAL - String order with runs of digits compared as numbers, so "Item 9" comes before "Item 10"</li>
+ * <li>NUMERIC - The first number in the cell, e.g. 3.1 for "3.1 Miles"</li>
+ * <li>CURRENCY - An amount of money, e.g. "$1,234.50" or "(12.00)" for a negative amount</li>
+ * <li>DATE - A date or date and time read with a java.time pattern, e.g. "MM/dd/yyyy"</li>
+ * </ul>
+ */
+public enum SortType {
+	TEXT,
+	CASE_INSENSITIVE,
+	NATURAL,
+	NUMERIC,
+	CURRENCY,
+	DATE;
+}
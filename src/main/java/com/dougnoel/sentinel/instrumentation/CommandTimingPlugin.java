@@ -0,0 +1,205 @@
+package com.dougnoel.sentinel.instrumentation;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dougnoel.sentinel.configurations.ConfigurationManager;
+import com.dougnoel.sentinel.enums.BudgetAction;
+
+import gherkin.formatter.Formatter;
+import gherkin.formatter.Reporter;
+import gherkin.formatter.model.Background;
+import gherkin.formatter.model.Examples;
+import gherkin.formatter.model.Feature;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import gherkin.formatter.model.ScenarioOutline;
+import gherkin.formatter.model.Step;
+import gherkin.formatter.model.Tag;
+import gherkin.formatter.model.TagStatement;
+
+/**
+ * A Cucumber plugin that turns on Instrumentation and tells it which step is running, so command timings
+ * can be grouped by step. Add it to the Cucumber options of the test runner, with the file to write the
+ * summary to, e.g.:
+ * <p>
+ * <code>plugin = { "com.dougnoel.sentinel.instrumentation.CommandTimingPlugin:target/sentinel-commands.txt" }</code>
+ * <p>
+ * Without a file the summary is written when the JVM exits, to the file given by the instrumentationReport property.
+ * <p>
+ * The plugin also checks each step against its StepBudget when the step passes. A step over budget is logged,
+ * and unless the budget action is WARN the scenario is failed when it ends.
+ *
+ * @see com.dougnoel.sentinel.instrumentation.StepBudget
+ */
+public class CommandTimingPlugin implements Formatter, Reporter {
+	private static final Logger log = LogManager.getLogger(CommandTimingPlugin.class); // Create a logger.
+
+	private final File report;
+	// Kept per thread, so one plugin shared by runners on several threads tracks each thread's scenario on its own.
+	private final ThreadLocal<Queue<Step>> steps = ThreadLocal.withInitial(ArrayDeque::new);
+	private final ThreadLocal<List<String>> featureTags = ThreadLocal.withInitial(Collections::emptyList);
+	private final ThreadLocal<StepBudget> budget = new ThreadLocal<>();
+	private final ThreadLocal<String> currentStep = new ThreadLocal<>();
+
+	/**
+	 * Creates the plugin without a report file. The summary is written when the JVM exits.
+	 */
+	public CommandTimingPlugin() {
+		this(null);
+	}
+
+	/**
+	 * Creates the plugin and the file it writes the summary to when the run is done.
+	 *
+	 * @param report File the file to write the summary to, or null to write it when the JVM exits
+	 */
+	public CommandTimingPlugin(File report) {
+		this.report = report;
+		Instrumentation.enable();
+		if (report == null) {
+			Instrumentation.writeSummaryOnExit();
+		}
+	}
+
+	@Override
+	public void step(Step step) {
+		steps.get().add(step);
+	}
+
+	@Override
+	public void match(Match match) {
+		Step step = steps.get().poll();
+		String stepName = step == null ? null : step.getKeyword() + step.getName();
+		currentStep.set(stepName);
+		Instrumentation.setStep(stepName);
+	}
+
+	@Override
+	public void result(Result result) {
+		String stepName = currentStep.get();
+		StepBudget stepBudget = budget.get();
+		if (stepName == null || stepBudget == null || stepBudget.isUnlimited() || !Result.PASSED.equals(result.getStatus())) {
+			return;
+		}
+		Long duration = result.getDuration();
+		String violation = stepBudget.check(stepName, Instrumentation.getStepCommandCount(), duration == null ? 0L : duration);
+		if (violation != null) {
+			log.warn("Step over budget: {}", violation);
+			if (stepBudget.getAction() == BudgetAction.FAIL) {
+				Instrumentation.addBudgetViolation(violation);
+			}
+		}
+	}
+
+	@Override
+	public void endOfScenarioLifeCycle(Scenario scenario) {
+		steps.get().clear();
+		currentStep.remove();
+		Instrumentation.setStep(null);
+	}
+
+	@Override
+	public void done() {
+		if (report != null) {
+			Instrumentation.writeSummary(report);
+		}
+	}
+
+	@Override
+	public void syntaxError(String state, String event, List<String> legalEvents, String uri, Integer line) {
+		// Not used.
+	}
+
+	@Override
+	public void uri(String uri) {
+		// Not used.
+	}
+
+	@Override
+	public void feature(Feature feature) {
+		featureTags.set(tagNames(feature));
+	}
+
+	@Override
+	public void scenarioOutline(ScenarioOutline scenarioOutline) {
+		// Not used.
+	}
+
+	@Override
+	public void examples(Examples examples) {
+		// Not used.
+	}
+
+	@Override
+	public void startOfScenarioLifeCycle(Scenario scenario) {
+		steps.get().clear();
+		List<String> tags = new ArrayList<>(featureTags.get());
+		tags.addAll(tagNames(scenario));
+		budget.set(ConfigurationManager.getConfiguration().getStepBudget().withTags(tags));
+	}
+
+	@Override
+	public void background(Background background) {
+		// Not used.
+	}
+
+	@Override
+	public void scenario(Scenario scenario) {
+		// Not used.
+	}
+
+	@Override
+	public void close() {
+		// Not used.
+	}
+
+	@Override
+	public void eof() {
+		// Not used.
+	}
+
+	@Override
+	public void before(Match match, Result result) {
+		// Not used.
+	}
+
+	@Override
+	public void after(Match match, Result result) {
+		// Not used.
+	}
+
+	@Override
+	public void embedding(String mimeType, byte[] data) {
+		// Not used.
+	}
+
+	@Override
+	public void write(String text) {
+		// Not used.
+	}
+
+	/**
+	 * Returns the names of the tags of a feature or scenario.
+	 *
+	 * @param statement TagStatement the feature or scenario
+	 * @return List&lt;String&gt; the tag names, including the @
+	 */
+	private static List<String> tagNames(TagStatement statement) {
+		List<String> names = new ArrayList<>();
+		if (statement.getTags() != null) {
+			for (Tag tag : statement.getTags()) {
+				names.add(tag.getName());
+			}
+		}
+		return names;
+	}
+}
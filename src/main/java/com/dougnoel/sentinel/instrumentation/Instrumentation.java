@@ -0,0 +1,282 @@
+package com.dougnoel.sentinel.instrumentation;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import com.dougnoel.sentinel.configurations.ConfigurationManager;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * Counts and times every command Sentinel sends to the browser, and groups the timings by the step, page and
+ * element they were made for, so a slow run can be traced to the steps and elements that cost the most.
+ * <p>
+ * Instrumentation is off by default. It is turned on by setting the instrumentation property to true, or by
+ * adding the CommandTimingPlugin to the Cucumber options. When it is on, WebDriverFactory wraps each driver it
+ * creates so every command is timed, including the ones made on elements and on the objects returned by
+ * navigate(), switchTo() and manage(). Timings are kept in histograms, so the summary written at the end of
+ * the run shows the 50th, 95th and 99th percentile of each command and not only the average. When turned on with
+ * the property, or by a CommandTimingPlugin without a file, the summary is written when the JVM exits to
+ * target/sentinel-commands.txt, or to the file given by the instrumentationReport property.
+ */
+public class Instrumentation {
+	private static final Logger log = LogManager.getLogger(Instrumentation.class); // Create a logger.
+
+	private static final String DEFAULT_REPORT = "target/sentinel-commands.txt";
+	private static final String[] DIMENSIONS = { "command", "step", "page", "element" };
+	private static final String NONE = "(none)";
+
+	private static final Map<String, Map<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+	private static final ThreadLocal<String> step = new ThreadLocal<>();
+	private static final ThreadLocal<String> page = new ThreadLocal<>();
+	private static final ThreadLocal<long[]> stepCommands = ThreadLocal.withInitial(() -> new long[1]);
+	private static final ThreadLocal<List<String>> budgetViolations = ThreadLocal.withInitial(ArrayList::new);
+	private static volatile Boolean enabled = null;
+	private static volatile boolean hookAdded = false;
+
+	private Instrumentation() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Turns instrumentation on for drivers created from now on. The summary is not written unless the caller
+	 * writes it with writeSummary() or asks for it to be written on exit with writeSummaryOnExit().
+	 */
+	public static synchronized void enable() {
+		enabled = true;
+	}
+
+	/**
+	 * Returns true if commands are being timed. The instrumentation property is read the first time this is called.
+	 *
+	 * @return boolean true if instrumentation is on
+	 */
+	public static boolean isEnabled() {
+		if (enabled == null) {
+			synchronized (Instrumentation.class) {
+				if (enabled == null) {
+					enabled = "true".equalsIgnoreCase(StringUtils.trim(ConfigurationManager.getOptionalProperty("instrumentation")));
+					if (enabled) {
+						writeSummaryOnExit();
+					}
+				}
+			}
+		}
+		return enabled;
+	}
+
+	/**
+	 * Returns a driver that times every command sent through it if instrumentation is on, otherwise the driver itself.
+	 *
+	 * @param driver org.openqa.selenium.WebDriver the driver to instrument
+	 * @return org.openqa.selenium.WebDriver the driver to use
+	 */
+	public static WebDriver instrument(WebDriver driver) {
+		if (driver == null || !isEnabled()) {
+			return driver;
+		}
+		log.debug("Timing the commands sent by {}.", driver.getClass().getSimpleName());
+		return InstrumentedProxy.wrapDriver(driver);
+	}
+
+	/**
+	 * Sets the step that commands made on this thread are counted against, and starts counting the
+	 * commands of the step from zero.
+	 *
+	 * @param stepName String the step text, or null when no step is running
+	 */
+	public static void setStep(String stepName) {
+		step.set(stepName);
+		stepCommands.get()[0] = 0;
+	}
+
+	/**
+	 * Returns the number of commands sent on this thread since the current step started.
+	 *
+	 * @return long the number of commands
+	 */
+	public static long getStepCommandCount() {
+		return stepCommands.get()[0];
+	}
+
+	/**
+	 * Records that a step on this thread went over its budget, so the scenario can be failed when it ends.
+	 *
+	 * @param violation String a description of how the step went over budget
+	 */
+	public static void addBudgetViolation(String violation) {
+		budgetViolations.get().add(violation);
+	}
+
+	/**
+	 * Returns the budget violations recorded on this thread since the last call, and clears them.
+	 *
+	 * @return List&lt;String&gt; the violations, empty if there were none
+	 */
+	public static List<String> takeBudgetViolations() {
+		List<String> violations = budgetViolations.get();
+		if (violations.isEmpty()) {
+			return Collections.emptyList();
+		}
+		budgetViolations.remove();
+		return violations;
+	}
+
+	/**
+	 * Sets the page that commands made on this thread are counted against.
+	 *
+	 * @param pageName String the name of the page, or null
+	 */
+	public static void setPage(String pageName) {
+		page.set(pageName);
+	}
+
+	/**
+	 * Records one command against the current step and page of this thread and the element it was made on.
+	 *
+	 * @param command String the name of the command, e.g. findElement or element.click
+	 * @param element String the locator of the element the command was made on, or null
+	 * @param nanos long how long the command took in nanoseconds
+	 */
+	public static void record(String command, String element, long nanos) {
+		stepCommands.get()[0]++;
+		histogram("command", command, command).record(nanos);
+		histogram("step", valueOrNone(step.get()), command).record(nanos);
+		histogram("page", valueOrNone(page.get()), command).record(nanos);
+		if (element != null) {
+			histogram("element", element, command).record(nanos);
+		}
+	}
+
+	/**
+	 * Returns the histogram of a command for one value of a dimension, e.g. the findElement calls made
+	 * during one step. For the command dimension the value is the command itself.
+	 *
+	 * @param dimension String command, step, page or element
+	 * @param value String the step, page or element
+	 * @param command String the command
+	 * @return LatencyHistogram the histogram, empty if nothing was recorded
+	 */
+	public static LatencyHistogram getHistogram(String dimension, String value, String command) {
+		LatencyHistogram histogram = histograms.getOrDefault(dimension, new ConcurrentHashMap<>()).get(key(value, command));
+		return histogram == null ? new LatencyHistogram() : histogram;
+	}
+
+	/**
+	 * Removes everything recorded so far.
+	 */
+	public static void reset() {
+		histograms.clear();
+	}
+
+	/**
+	 * Writes a table for each dimension with the count, total time and percentiles of every command recorded,
+	 * the most expensive first.
+	 *
+	 * @param file File the file to write
+	 */
+	public static synchronized void writeSummary(File file) {
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs()) {
+			log.warn("Could not create {} to write the command timings.", parent);
+			return;
+		}
+		try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+			for (String dimension : DIMENSIONS) {
+				writeTable(writer, dimension);
+			}
+		} catch (IOException e) {
+			log.warn("Could not write the command timings to {}: {}", file, e.getMessage());
+			return;
+		}
+		log.info("Command timings written to {}.", file);
+	}
+
+	/**
+	 * Writes the table for one dimension.
+	 *
+	 * @param writer PrintWriter where to write
+	 * @param dimension String the dimension
+	 */
+	private static void writeTable(PrintWriter writer, String dimension) {
+		Map<String, LatencyHistogram> dimensionHistograms = histograms.get(dimension);
+		if (dimensionHistograms == null || dimensionHistograms.isEmpty()) {
+			return;
+		}
+		List<Map.Entry<String, LatencyHistogram>> rows = new ArrayList<>(dimensionHistograms.entrySet());
+		rows.sort(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> row) -> row.getValue().getTotalNanos()).reversed());
+		writer.println(StringUtils.format("By {}:", dimension));
+		writer.println(String.format("%10s %12s %10s %10s %10s %10s  %s", "count", "total ms", "p50 ms", "p95 ms", "p99 ms", "max ms", dimension));
+		for (Map.Entry<String, LatencyHistogram> row : rows) {
+			LatencyHistogram histogram = row.getValue();
+			writer.println(String.format("%10d %12.1f %10.1f %10.1f %10.1f %10.1f  %s", histogram.getCount(),
+					millis(histogram.getTotalNanos()), millis(histogram.getPercentileNanos(50)),
+					millis(histogram.getPercentileNanos(95)), millis(histogram.getPercentileNanos(99)),
+					millis(histogram.getMaxNanos()), row.getKey()));
+		}
+		writer.println();
+	}
+
+	/**
+	 * Returns the histogram for a value of a dimension and a command, creating it the first time.
+	 *
+	 * @param dimension String the dimension
+	 * @param value String the value of the dimension
+	 * @param command String the command
+	 * @return LatencyHistogram the histogram
+	 */
+	private static LatencyHistogram histogram(String dimension, String value, String command) {
+		return histograms.computeIfAbsent(dimension, k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(key(value, command), k -> new LatencyHistogram());
+	}
+
+	/**
+	 * Returns the key a command is stored under for a value of a dimension.
+	 *
+	 * @param value String the value of the dimension
+	 * @param command String the command
+	 * @return String the key
+	 */
+	private static String key(String value, String command) {
+		return value.equals(command) ? command : value + " | " + command;
+	}
+
+	private static String valueOrNone(String value) {
+		return value == null ? NONE : value;
+	}
+
+	private static double millis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * Writes the summary to target/sentinel-commands.txt, or to the file given by the instrumentationReport
+	 * property, when the JVM exits. Calling this more than once only writes the summary once.
+	 */
+	public static synchronized void writeSummaryOnExit() {
+		if (hookAdded) {
+			return;
+		}
+		hookAdded = true;
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			if (!histograms.isEmpty()) {
+				String path = ConfigurationManager.getOptionalProperty("instrumentationReport");
+				writeSummary(new File(StringUtils.isBlank(path) ? DEFAULT_REPORT : path.trim()));
+			}
+		}));
+	}
+}
@@ -0,0 +1,213 @@
+package com.dougnoel.sentinel.instrumentation;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.internal.WrapsElement;
+
+/**
+ * Times every call made on a WebDriver, a WebElement or one of the helper objects returned by the driver,
+ * such as the ones returned by navigate() and switchTo(), and records it with Instrumentation.
+ * <p>
+ * The proxy implements every interface of the object it wraps, so casts to JavascriptExecutor, TakesScreenshot
+ * and the like keep working. Drivers also implement WrapsDriver and elements WrapsElement, which Selenium uses
+ * to get the real object back, and wrapped elements passed into a call are unwrapped before the call is made.
+ */
+class InstrumentedProxy implements InvocationHandler {
+	/* Methods that return a helper object without sending anything to the browser, and so are not timed. */
+	private static final Set<String> ACCESSORS = new HashSet<>(Arrays.asList("manage", "navigate", "switchTo", "timeouts", "window", "ime", "logs"));
+
+	private final Object target;
+	private final String prefix;
+	private final String element;
+	private final String unwrapMethod;
+
+	/**
+	 * Creates a handler for the given object.
+	 *
+	 * @param target Object the object to time calls on
+	 * @param prefix String prepended to the method name to name the command, e.g. "navigate." for navigate().to()
+	 * @param element String the locator of the element the calls are made on, or null for the driver
+	 * @param unwrapMethod String the method that returns the real object, getWrappedDriver or getWrappedElement, or null
+	 */
+	private InstrumentedProxy(Object target, String prefix, String element, String unwrapMethod) {
+		this.target = target;
+		this.prefix = prefix;
+		this.element = element;
+		this.unwrapMethod = unwrapMethod;
+	}
+
+	/**
+	 * Returns a proxy for the driver that times every command sent through it.
+	 *
+	 * @param driver org.openqa.selenium.WebDriver the driver to wrap
+	 * @return org.openqa.selenium.WebDriver the instrumented driver
+	 */
+	static WebDriver wrapDriver(WebDriver driver) {
+		return (WebDriver) wrap(driver, "", null, WrapsDriver.class);
+	}
+
+	/**
+	 * Returns the object behind a proxy created by this class, or the object itself if it is not one.
+	 *
+	 * @param object Object a possibly wrapped object
+	 * @return Object the unwrapped object
+	 */
+	static Object unwrap(Object object) {
+		if (object != null && Proxy.isProxyClass(object.getClass()) && Proxy.getInvocationHandler(object) instanceof InstrumentedProxy) {
+			return ((InstrumentedProxy) Proxy.getInvocationHandler(object)).target;
+		}
+		return object;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		String name = method.getName();
+		if (method.getDeclaringClass() == Object.class) {
+			if ("equals".equals(name)) {
+				return target.equals(unwrap(args[0]));
+			}
+			return method.invoke(target, args);
+		}
+		if (args == null && name.equals(unwrapMethod)) {
+			return target;
+		}
+
+		Object[] arguments = unwrapArguments(args);
+		if (args == null && ACCESSORS.contains(name)) {
+			return wrapResult(invokeTarget(method, arguments), method, arguments);
+		}
+		long start = System.nanoTime();
+		Object result;
+		try {
+			result = invokeTarget(method, arguments);
+		} finally {
+			Instrumentation.record(prefix + name, element, System.nanoTime() - start);
+		}
+		return wrapResult(result, method, arguments);
+	}
+
+	/**
+	 * Calls the method on the wrapped object, throwing whatever the method throws.
+	 *
+	 * @param method Method the method to call
+	 * @param arguments Object[] the unwrapped arguments
+	 * @return Object the value returned by the method
+	 * @throws Throwable the exception thrown by the method
+	 */
+	private Object invokeTarget(Method method, Object[] arguments) throws Throwable {
+		try {
+			return method.invoke(target, arguments);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Wraps WebElements, lists of WebElements and Selenium helper interfaces returned by a call so that
+	 * calls made on them are timed too.
+	 *
+	 * @param result Object the value returned by the call
+	 * @param method Method the method called
+	 * @param arguments Object[] the arguments the method was called with
+	 * @return Object the value to return to the caller
+	 */
+	private Object wrapResult(Object result, Method method, Object[] arguments) {
+		if (result == null) {
+			return null;
+		}
+		String locator = element;
+		if (arguments != null && arguments.length == 1 && arguments[0] instanceof By) {
+			locator = element == null ? arguments[0].toString() : element + " > " + arguments[0];
+		}
+		if (result instanceof WebElement) {
+			return wrap(result, "element.", locator, WrapsElement.class);
+		}
+		if (result instanceof List && List.class.isAssignableFrom(method.getReturnType())) {
+			List<Object> wrapped = new ArrayList<>(((List<?>) result).size());
+			for (Object item : (List<?>) result) {
+				wrapped.add(item instanceof WebElement ? wrap(item, "element.", locator, WrapsElement.class) : item);
+			}
+			return wrapped;
+		}
+		Class<?> returnType = method.getReturnType();
+		if (returnType.isInterface() && returnType.getName().startsWith("org.openqa.selenium.")) {
+			return wrap(result, prefix + method.getName() + ".", element, null);
+		}
+		return result;
+	}
+
+	/**
+	 * Replaces wrapped elements in the arguments with the real elements, including inside the varargs
+	 * array of executeScript.
+	 *
+	 * @param args Object[] the arguments of the call
+	 * @return Object[] the arguments to pass to the real object
+	 */
+	private static Object[] unwrapArguments(Object[] args) {
+		if (args == null) {
+			return null;
+		}
+		Object[] unwrapped = new Object[args.length];
+		for (int i = 0; i < args.length; i++) {
+			if (args[i] instanceof Object[]) {
+				Object[] values = ((Object[]) args[i]).clone();
+				for (int j = 0; j < values.length; j++) {
+					values[j] = unwrap(values[j]);
+				}
+				unwrapped[i] = values;
+			} else {
+				unwrapped[i] = unwrap(args[i]);
+			}
+		}
+		return unwrapped;
+	}
+
+	/**
+	 * Creates a proxy implementing every interface of the target, plus the given wrapper interface.
+	 *
+	 * @param target Object the object to wrap
+	 * @param prefix String prepended to method names to name commands
+	 * @param element String the locator of the element, or null
+	 * @param wrapper Class&lt;?&gt; WrapsDriver, WrapsElement or null
+	 * @return Object the proxy
+	 */
+	private static Object wrap(Object target, String prefix, String element, Class<?> wrapper) {
+		Set<Class<?>> interfaces = new LinkedHashSet<>();
+		for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+			addInterfaces(type, interfaces);
+		}
+		if (wrapper != null) {
+			interfaces.add(wrapper);
+		}
+		String unwrapMethod = wrapper == null ? null : wrapper.getMethods()[0].getName();
+		return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces.toArray(new Class<?>[0]),
+				new InstrumentedProxy(target, prefix, element, unwrapMethod));
+	}
+
+	/**
+	 * Adds the public interfaces of a class and the interfaces they extend.
+	 *
+	 * @param type Class&lt;?&gt; the class or interface
+	 * @param interfaces Set&lt;Class&lt;?&gt;&gt; the interfaces found so far
+	 */
+	private static void addInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+		for (Class<?> implemented : type.getInterfaces()) {
+			if (java.lang.reflect.Modifier.isPublic(implemented.getModifiers()) && interfaces.add(implemented)) {
+				addInterfaces(implemented, interfaces);
+			}
+		}
+	}
+}
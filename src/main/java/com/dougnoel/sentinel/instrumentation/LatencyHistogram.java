@@ -0,0 +1,129 @@
+package com.dougnoel.sentinel.instrumentation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed size histogram of latencies in the style of an HdrHistogram. Values are recorded in microseconds
+ * into buckets that are exact below 64 microseconds and then split each power of two into 32 equal parts,
+ * so every percentile is accurate to about 3%. Recording is a few arithmetic operations and an atomic
+ * increment, and is safe from any thread.
+ */
+public class LatencyHistogram {
+	/* Each power of two above the linear range is split into 2^SUB_BUCKET_BITS buckets. */
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	/* Values below this are counted exactly. */
+	private static final long LINEAR_LIMIT = 2L * SUB_BUCKET_COUNT;
+	/* The highest power of two tracked, 2^40 microseconds is about 12 days. Longer values are counted in the last bucket. */
+	private static final int MAX_EXPONENT = 40;
+	private static final int BUCKET_COUNT = (int) LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong totalNanos = new AtomicLong();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Records one latency.
+	 *
+	 * @param nanos long the latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0L, nanos);
+		counts.incrementAndGet(bucketFor(TimeUnit.NANOSECONDS.toMicros(value)));
+		count.incrementAndGet();
+		totalNanos.addAndGet(value);
+		long max = maxNanos.get();
+		while (value > max && !maxNanos.compareAndSet(max, value)) {
+			max = maxNanos.get();
+		}
+	}
+
+	/**
+	 * Returns the number of latencies recorded.
+	 *
+	 * @return long the count
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Returns the sum of all latencies recorded.
+	 *
+	 * @return long the total in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos.get();
+	}
+
+	/**
+	 * Returns the largest latency recorded.
+	 *
+	 * @return long the maximum in nanoseconds
+	 */
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * Returns the latency at or below which the given percentage of recorded latencies fall. The value is
+	 * the upper bound of the bucket the percentile falls in, but never more than the maximum recorded.
+	 *
+	 * @param percentile double the percentile, from 0 to 100
+	 * @return long the latency in nanoseconds, or 0 if nothing was recorded
+	 */
+	public long getPercentileNanos(double percentile) {
+		long total = count.get();
+		if (total == 0) {
+			return 0L;
+		}
+		long target = Math.max(1L, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts.get(i);
+			if (seen >= target) {
+				return Math.min(TimeUnit.MICROSECONDS.toNanos(highestValueIn(i)), maxNanos.get());
+			}
+		}
+		return maxNanos.get();
+	}
+
+	/**
+	 * Returns the bucket a value in microseconds is counted in.
+	 *
+	 * @param micros long the value
+	 * @return int the bucket index
+	 */
+	static int bucketFor(long micros) {
+		if (micros < LINEAR_LIMIT) {
+			return (int) micros;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		if (exponent > MAX_EXPONENT) {
+			return BUCKET_COUNT - 1;
+		}
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (micros >>> shift) - SUB_BUCKET_COUNT;
+		return (int) LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * Returns the largest value in microseconds counted in a bucket.
+	 *
+	 * @param bucket int the bucket index
+	 * @return long the largest value
+	 */
+	static long highestValueIn(int bucket) {
+		if (bucket < LINEAR_LIMIT) {
+			return bucket;
+		}
+		int offset = bucket - (int) LINEAR_LIMIT;
+		int exponent = offset / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+		int subBucket = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+		int shift = exponent - SUB_BUCKET_BITS;
+		return (((long) subBucket + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,149 @@
+package com.dougnoel.sentinel.instrumentation;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dougnoel.sentinel.enums.BudgetAction;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+/**
+ * The most browser commands and the most time a single step may use, and what to do when a step uses more.
+ * <p>
+ * The default budget for every step is set in sentinel.yml with the stepCommandBudget property, a number of
+ * commands, and the stepTimeBudget property, in milliseconds. A feature or scenario can set its own budget
+ * with tags: <code>@budget:50</code> allows 50 commands per step and <code>@budget:1500ms</code> allows
+ * 1.5 seconds per step. Both tags can be used together, and scenario tags override feature tags. A limit
+ * of zero means no limit. The budgetAction property decides whether a step over its budget fails the
+ * scenario, the default, or only logs a warning.
+ * <p>
+ * Budgets are checked by the CommandTimingPlugin, which must be added to the Cucumber options.
+ *
+ * @see com.dougnoel.sentinel.configurations.ConfigurationSnapshot#getStepBudget()
+ * @see com.dougnoel.sentinel.instrumentation.CommandTimingPlugin
+ */
+public class StepBudget {
+	private static final Logger log = LogManager.getLogger(StepBudget.class); // Create a logger.
+
+	private static final String TAG_PREFIX = "@budget:";
+
+	private final long maxCommands;
+	private final long maxMillis;
+	private final BudgetAction action;
+
+	/**
+	 * Creates a step budget. Negative limits are treated as zero.
+	 *
+	 * @param maxCommands long the most commands a step may send to the browser, or 0 for no limit
+	 * @param maxTime java.time.Duration the most time a step may take, or zero for no limit
+	 * @param action BudgetAction what to do when a step goes over budget
+	 */
+	public StepBudget(long maxCommands, Duration maxTime, BudgetAction action) {
+		this.maxCommands = Math.max(0L, maxCommands);
+		this.maxMillis = Math.max(0L, maxTime.toMillis());
+		this.action = action == null ? BudgetAction.FAIL : action;
+	}
+
+	/**
+	 * Returns the most commands a step may send to the browser.
+	 *
+	 * @return long the command budget, or 0 for no limit
+	 */
+	public long getMaxCommands() {
+		return maxCommands;
+	}
+
+	/**
+	 * Returns the most time a step may take.
+	 *
+	 * @return java.time.Duration the time budget, or zero for no limit
+	 */
+	public Duration getMaxTime() {
+		return Duration.ofMillis(maxMillis);
+	}
+
+	/**
+	 * Returns what to do when a step goes over budget.
+	 *
+	 * @return BudgetAction the action
+	 */
+	public BudgetAction getAction() {
+		return action;
+	}
+
+	/**
+	 * Returns true if neither the number of commands nor the time is limited.
+	 *
+	 * @return boolean true if there is nothing to check
+	 */
+	public boolean isUnlimited() {
+		return maxCommands == 0 && maxMillis == 0;
+	}
+
+	/**
+	 * Returns this budget with the limits given in @budget tags applied. Tags are applied in order, so
+	 * scenario tags should come after feature tags. Tags that cannot be read are logged and ignored.
+	 *
+	 * @param tagNames Collection&lt;String&gt; the tag names, including the @
+	 * @return StepBudget the budget to use
+	 */
+	public StepBudget withTags(Collection<String> tagNames) {
+		long commands = maxCommands;
+		long millis = maxMillis;
+		for (String tagName : tagNames) {
+			if (!StringUtils.startsWithIgnoreCase(tagName, TAG_PREFIX)) {
+				continue;
+			}
+			String limit = tagName.substring(TAG_PREFIX.length()).trim().toLowerCase();
+			try {
+				if (limit.endsWith("ms")) {
+					millis = Long.parseLong(limit.substring(0, limit.length() - 2));
+				} else if (limit.endsWith("s")) {
+					millis = TimeUnit.SECONDS.toMillis(Long.parseLong(limit.substring(0, limit.length() - 1)));
+				} else {
+					commands = Long.parseLong(limit);
+				}
+			} catch (NumberFormatException e) {
+				log.warn("Ignoring {}, budgets are given as {}50 for commands or {}1500ms for time.", tagName, TAG_PREFIX, TAG_PREFIX);
+			}
+		}
+		if (commands == maxCommands && millis == maxMillis) {
+			return this;
+		}
+		return new StepBudget(commands, Duration.ofMillis(millis), action);
+	}
+
+	/**
+	 * Checks a step that has finished against the budget.
+	 *
+	 * @param stepName String the step text
+	 * @param commands long the number of commands the step sent to the browser
+	 * @param nanos long how long the step took in nanoseconds
+	 * @return String a description of how the step went over budget, or null if it did not
+	 */
+	public String check(String stepName, long commands, long nanos) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		boolean overCommands = maxCommands > 0 && commands > maxCommands;
+		boolean overTime = maxMillis > 0 && millis > maxMillis;
+		if (overCommands && overTime) {
+			return StringUtils.format("\"{}\" sent {} commands in {} ms, over its budget of {} commands and {} ms.",
+					stepName, commands, millis, maxCommands, maxMillis);
+		}
+		if (overCommands) {
+			return StringUtils.format("\"{}\" sent {} commands, over its budget of {}.", stepName, commands, maxCommands);
+		}
+		if (overTime) {
+			return StringUtils.format("\"{}\" took {} ms, over its budget of {} ms.", stepName, millis, maxMillis);
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return StringUtils.format("{} commands, {} ms, {}", maxCommands == 0 ? "unlimited" : maxCommands,
+				maxMillis == 0 ? "unlimited" : maxMillis, action);
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Timing of the commands Sentinel sends to the browser, grouped by step, page and element.
+ */
+package com.dougnoel.sentinel.instrumentation;
@@ -1,11 +1,15 @@
 package com.dougnoel.sentinel.pages;
 
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.WebDriver;
 
 import com.dougnoel.sentinel.configurations.ConfigurationManager;
+import com.dougnoel.sentinel.elements.PageElement;
+import com.dougnoel.sentinel.elements.Selector;
 import com.dougnoel.sentinel.enums.SelectorType;
 import com.dougnoel.sentinel.webdrivers.WebDriverFactory;
 
@@ -33,6 +37,9 @@ public class Page {
 
     protected URL url = null;
 
+    // Elements created during the current visit to this page, keyed by element name.
+    private final Map<String, PageElement> elements = new HashMap<>();
+
     /**
      * Initializes a WebDriver object for operating on page elements, and sets the
      * base URL for the page.
@@ -43,6 +50,18 @@ public class Page {
         this.setImplicitWait(ConfigurationManager.getDefaultTimeout()); // Set a 10 second wait before erroring out on not finding elements.
     }
 
+    /**
+     * Returns a selector for elements that can be found more than one way, e.g.
+     * new Button(selector(ID, "submit"), selector(CSS, "form button[type=submit]"))
+     * 
+     * @param selectorType SelectorType the type of selector to use
+     * @param selectorValue String the value to look for with the given selector type
+     * @return Selector the selector
+     */
+    protected static Selector selector(SelectorType selectorType, String selectorValue) {
+        return new Selector(selectorType, selectorValue);
+    }
+
     /**
      * Sets an implicit wait time for the page before giving up on finding an
      * element.
@@ -105,4 +124,33 @@ public class Page {
     public String getName() {
         return this.getClass().getSimpleName();
     }
+
+    /**
+     * Returns the element created earlier during this visit to the page, so repeated steps against the same
+     * element reuse it along with any state it has cached.
+     * 
+     * @param elementName String the normalized name of the element
+     * @return PageElement the element, or null if it has not been created since the page was last loaded
+     */
+    public PageElement getCachedElement(String elementName) {
+        return elements.get(elementName);
+    }
+
+    /**
+     * Stores an element so that it can be reused until the page is navigated away from or changed.
+     * 
+     * @param elementName String the normalized name of the element
+     * @param element PageElement the element to store
+     */
+    public void cacheElement(String elementName, PageElement element) {
+        elements.put(elementName, element);
+    }
+
+    /**
+     * Forgets all elements created on this page. Called by the PageManager whenever the browser navigates and
+     * by elements whenever an action may have changed the page.
+     */
+    public void clearElementCache() {
+        elements.clear();
+    }
 }
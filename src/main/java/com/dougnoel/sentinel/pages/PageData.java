@@ -7,14 +7,12 @@ import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.dougnoel.sentinel.configurations.ObjectMappers;
 import com.dougnoel.sentinel.exceptions.ConfigurationMappingException;
 import com.dougnoel.sentinel.exceptions.ConfigurationParseException;
 import com.dougnoel.sentinel.strings.StringUtils;
 import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 /**
  * The PageData class is a singleton class that encapsulates page configuration data into a usable  
@@ -59,11 +57,9 @@ public class PageData {
 	 * @throws IOException if the configuration file cannot be opened or read
 	 */
 	public static PageData loadYaml(File fileName) throws ConfigurationParseException, ConfigurationMappingException, IOException{
-		ObjectMapper mapper = new ObjectMapper(new YAMLFactory())
-				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 		PageData pageData = null;
 		try {
-			pageData = mapper.readValue(fileName, PageData.class);
+			pageData = ObjectMappers.getYamlMapper().readValue(fileName, PageData.class);
 		} catch (JsonParseException e) {
 			String errorMessage = StringUtils.format("Configuration file is not a valid YAML file: {}.", fileName);
 			log.error(errorMessage);
@@ -1,51 +1,28 @@
 package com.dougnoel.sentinel.pages;
 
 import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import com.dougnoel.sentinel.configurations.ConfigurationManager;
+import com.dougnoel.sentinel.configurations.PageObjectRegistry;
 import com.dougnoel.sentinel.exceptions.ConfigurationNotFoundException;
 import com.dougnoel.sentinel.exceptions.PageNotFoundException;
 /**
  * The Page Factory is a factory method that simply takes a string containing the name of a 
- * Page Object and returns the object to be worked on. It handles searching packages for page definitions.
+ * Page Object and returns the object to be worked on. Page classes are looked up in the PageObjectRegistry,
+ * which scans the page object packages once.
  */
 public class PageFactory {
 	private static final Logger log = LogManager.getLogger(PageFactory.class); // Create a logger.
-	private static HashMap<String, Page> pages = new HashMap<String, Page>();
-	private static String[] pageObjectPackagesList = null;
+	// Pages hold a reference to the driver they were created with, so each thread keeps its own pages.
+	private static final ThreadLocal<Map<String, Page>> pages = ThreadLocal.withInitial(HashMap::new);
 	
 	private PageFactory() {
 		//Exists only to defeat instantiation.
 	}
 	
-	//TODO: Throw Exceptions if page object creationg fails
-	/**
-	 * Returns a page object if it exists in the package searched.
-	 * @param pageName String the name of the page object class to instantiate
-	 * @param packageName String the name of the package to search
-	 * @return Page the page object if it exists, otherwise null
-	 */
-	private static Page findPageInPackage(String pageName, String packageName) {
-		Page page = null;
-		try {
-			page = (Page) Class.forName(packageName + "." + pageName).newInstance();
-		} catch (InstantiationException e) {
-			log.trace("{}.{} Page Object creation failed.", packageName, pageName);
-			log.trace("java.lang.InstantiationException: {}", e.getMessage());
-		} catch (IllegalAccessException e) {
-			log.trace("{}.{} Page Object creation failed.", packageName, pageName);
-			log.trace("java.lang.IllegalAccessException: {}", e.getMessage());
-		} catch (ClassNotFoundException e) {
-			log.trace("{}.{} Page Object creation failed.", packageName, pageName);
-			log.trace("java.lang.ClassNotFoundException: {}", e.getMessage());
-		}
-		
-		return page;
-	}
-	
 	/**
 	 * Returns the Page Object for the page name. This allows us to operate on pages
 	 * without knowing they exist when we write step definitions.
@@ -65,31 +42,24 @@ public class PageFactory {
 	 * @throws ConfigurationNotFoundException if the value is not found in the configuration file
 	 */
 	public static Page buildOrRetrievePage(String pageName) throws PageNotFoundException, ConfigurationNotFoundException {
-		Page page = pages.get(pageName);
-		final String errorMessage = "The page you want to test could not be built. At least one Page object package is required to run a test. Please add a pageObjectPackages property to your conf/sentinel.yml configuration file and try again.";
+		Page page = pages.get().get(pageName);
 		if (page != null) {
 			return page;
-		} else {
-			if (pageObjectPackagesList == null) {
-				pageObjectPackagesList = ConfigurationManager.getPageObjectPackageList();
-				if(pageObjectPackagesList == null) {
-					throw new PageNotFoundException(errorMessage);
-				}
-			}
-
-			for (String pageObjectPackage : pageObjectPackagesList) {
-				log.trace("pageObjectPackage: " + pageObjectPackage);
-				page = findPageInPackage(pageName, pageObjectPackage);
-				if (page != null) {
-					break; // If we have a page object, stop searching.
-				}
-			}
 		}
+		page = PageObjectRegistry.newInstance(pageName, Page.class);
 		if(page == null) {
-			throw new PageNotFoundException(errorMessage);
+			throw new PageNotFoundException("The page you want to test could not be built. At least one Page object package is required to run a test. Please add a pageObjectPackages property to your conf/sentinel.yml configuration file and try again.");
 		}
-		pages.put(pageName, page);
+		pages.get().put(pageName, page);
 		return page;
 	}
 
+	/**
+	 * Removes all pages created by the current thread. Called when the thread's driver is quit, since
+	 * the pages would otherwise keep using the old driver.
+	 */
+	public static void clear() {
+		pages.remove();
+	}
+
 }
\ No newline at end of file
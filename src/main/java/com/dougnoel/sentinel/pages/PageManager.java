@@ -19,24 +19,29 @@ import com.dougnoel.sentinel.exceptions.NoSuchFrameException;
 import com.dougnoel.sentinel.exceptions.NoSuchWindowException;
 import com.dougnoel.sentinel.exceptions.PageNotFoundException;
 import com.dougnoel.sentinel.exceptions.URLNotFoundException;
+import com.dougnoel.sentinel.instrumentation.Instrumentation;
 import com.dougnoel.sentinel.strings.StringUtils;
+import com.dougnoel.sentinel.webdrivers.WebDriverFactory;
 
 /**
  * The Page Manager is a singleton class that manages what page the test is on.
  * Calling setPage with a strong containing the name of the new page calls the
  * Page Factory to create the new page and return it as a Page Object.
+ * <p>
+ * The current page and parent window handle are kept per thread, so each
+ * worker thread in a parallel run tracks its own page and browser.
  */
 public class PageManager {
 	private static final Logger log = LogManager.getLogger(PageManager.class);
-	// Only one page reference should exist. We aren't doing multi-threading.
-	private static Page page = null;
+	// One page reference exists per thread, so that scenarios can be run in parallel.
+	private static final ThreadLocal<Page> page = new ThreadLocal<>();
 	// Only one page manager can exist.
 	private static PageManager instance = null;
-	// Page handle for the first window opened.
-	private static String parentHandle = null;
+	// Page handle for the first window opened, per thread.
+	private static final ThreadLocal<String> parentHandle = new ThreadLocal<>();
 
 	protected static WebDriver driver() {
-		return page.driver;
+		return page.get().driver;
 	} // Get the driver for the current page.
 
 	private PageManager() {
@@ -65,8 +70,11 @@ public class PageManager {
 			instance = new PageManager();
 
 		// Get a page from the page factory
-		PageManager.page = PageFactory.buildOrRetrievePage(pageName);
-		return page;
+		Page newPage = PageFactory.buildOrRetrievePage(pageName);
+		newPage.clearElementCache();
+		page.set(newPage);
+		Instrumentation.setPage(newPage.getName());
+		return newPage;
 	}
 
 	//TODO: Update thrown exception to be a custom exception and not catch it
@@ -87,10 +95,22 @@ public class PageManager {
 					e.printStackTrace();
 			}
 	
-		if(page == null) {
+		Page currentPage = page.get();
+		if(currentPage == null) {
 			throw new PageNotFoundException("We could not find the Page you are looking for. Please check the pageObjectPackages configuration in conf/sentinel.yml and make sure it includes directory containing your page object.");
 		}
-		return page;
+		return currentPage;
+	}
+
+	/**
+	 * Forgets the elements created on the current page, if there is one. Called whenever the browser
+	 * navigates or changes windows or frames, since elements created before that would be stale.
+	 */
+	public static void clearElementCache() {
+		Page currentPage = page.get();
+		if (currentPage != null) {
+			currentPage.clearElementCache();
+		}
 	}
 
 	/**
@@ -102,7 +122,9 @@ public class PageManager {
 	 */
 	public static String openPage(String pageURL) {
 		open(pageURL);
-		return parentHandle = driver().getWindowHandle();
+		String handle = driver().getWindowHandle();
+		parentHandle.set(handle);
+		return handle;
 	}
 
 	/**
@@ -113,6 +135,7 @@ public class PageManager {
 	 * @param url String Full URL to navigate to.
 	 */
 	protected static void open(String url) {
+		clearElementCache();
 		driver().get(url);
 	}
 
@@ -125,11 +148,14 @@ public class PageManager {
 	}
 
 	/**
-	 * Quits the current driver. Subsequent calls to the driver will fail. Should be
-	 * used at the end of tests only.
+	 * Quits the driver for the current thread and forgets the pages created with it. Should be
+	 * used at the end of tests only. If a step uses the driver after this, a new one will be created.
 	 */
 	public static void quit() {
-		driver().quit();
+		WebDriverFactory.quitWebDriver();
+		PageFactory.clear();
+		page.remove();
+		parentHandle.remove();
 	}
 
 	/**
@@ -142,8 +168,9 @@ public class PageManager {
 	 * @return Page the current page object for chaining
 	 */
 	public static Page navigateTo(String url) {
+		clearElementCache();
 		driver().navigate().to(url);
-		return page;
+		return page.get();
 	}
 
 	/**
@@ -155,8 +182,9 @@ public class PageManager {
 	 * @return Page the current page object for chaining
 	 */
 	public static Page navigateForward() {
+		clearElementCache();
 		driver().navigate().forward();
-		return page;
+		return page.get();
 	}
 
 	/**
@@ -168,8 +196,9 @@ public class PageManager {
 	 * @return Page the current page object for chaining
 	 */
 	public static Page navigateBack() {
+		clearElementCache();
 		driver().navigate().back();
-		return page;
+		return page.get();
 	}
 
 	/**
@@ -178,8 +207,9 @@ public class PageManager {
 	 * @return Page the current page object for chaining
 	 */
 	public static Page refresh() {
+		clearElementCache();
 		driver().navigate().refresh();
-		return page;
+		return page.get();
 	}
 
 	/**
@@ -203,13 +233,14 @@ public class PageManager {
 			log.error(errorMessage);
 			throw new NoSuchWindowException(errorMessage);
 		}
-		if (parentHandle == null) {
+		String parent = parentHandle.get();
+		if (parent == null) {
 			String errorMessage = "Parent Window cannot be found. Please open a window and restart your test.";
 			log.error(errorMessage);
 			throw new NoSuchWindowException(errorMessage);
 		}
 		for (String handle : handles) {
-			if (!handle.equals(parentHandle)) {
+			if (!handle.equals(parent)) {
 				newHandle = handle;
 			}
 		}
@@ -229,6 +260,7 @@ public class PageManager {
 	 */
 	public static void switchToNewWindow(String index) throws NoSuchWindowException {
 		try {
+			clearElementCache();
 			driver().switchTo().window(index);
 			log.trace(StringUtils.format("Switched to new window {}", index));
 		} catch (org.openqa.selenium.NoSuchWindowException e) {
@@ -249,8 +281,10 @@ public class PageManager {
 	 */
 	public static String closeChildWindow() {
 		close();
-		driver().switchTo().window(parentHandle);
-		return parentHandle;
+		String parent = parentHandle.get();
+		clearElementCache();
+		driver().switchTo().window(parent);
+		return parent;
 	}
 
 	/**
@@ -260,6 +294,7 @@ public class PageManager {
 	 */
 	public static void switchToIFrame() throws NoSuchFrameException {
 		try {
+			clearElementCache();
 			driver().switchTo().frame(0);
 			log.trace("Switched to iFrame on current page");
 		} catch (org.openqa.selenium.NoSuchFrameException e) {
@@ -283,12 +318,12 @@ public class PageManager {
 	public static String getCurrentUrl() throws URLNotFoundException, WebDriverException {
 		String currentUrl = null;
 		try {
-			currentUrl = page.getCurrentUrl();
+			currentUrl = page.get().getCurrentUrl();
 			log.trace(StringUtils.format("Current URL retrieved: {}", currentUrl));
 		} catch (WebDriverException e) {
 			String errorMessage = StringUtils.format(
 					"An error occured when trying to find the current URL for {}. Please check the URL and try again: {}",
-					page.getName(), e.getMessage());
+					page.get().getName(), e.getMessage());
 			log.error(errorMessage);
 			throw new URLNotFoundException(errorMessage);
 
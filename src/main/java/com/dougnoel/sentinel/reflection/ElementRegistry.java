@@ -0,0 +1,27 @@
+package com.dougnoel.sentinel.reflection;
+
+/**
+ * A lookup of the element or action methods of one page or API class, generated at compile time by the
+ * ElementRegistryProcessor. Each generated registry is named after the class it serves with an
+ * <code>_ElementRegistry</code> suffix (e.g. <code>pages.LoginPage_ElementRegistry</code>) and calls the
+ * methods directly through a switch statement instead of through reflection.
+ *
+ * @see com.dougnoel.sentinel.reflection.ElementRegistryProcessor
+ * @see com.dougnoel.sentinel.reflection.MethodDispatchTable#invoke(Object, String)
+ */
+public interface ElementRegistry {
+	/**
+	 * Returned by invoke() when the registry does not contain a method with the given name.
+	 */
+	Object NOT_FOUND = new Object();
+
+	/**
+	 * Calls the method with the given name on the target object and returns the result.
+	 *
+	 * @param target Object the page or API object to call the method on
+	 * @param methodName String the normalized element or action name
+	 * @return Object the element or action returned by the method, or NOT_FOUND if no such method is registered
+	 * @throws Throwable any exception thrown by the called method
+	 */
+	Object invoke(Object target, String methodName) throws Throwable;
+}
@@ -0,0 +1,138 @@
+package com.dougnoel.sentinel.reflection;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * An optional annotation processor that generates an ElementRegistry for each page object and API class it
+ * compiles. Page objects do not need any annotations; every public, non-abstract top level class that extends
+ * Page or API is processed. The generated registry contains a switch over the names of all public no-argument
+ * methods that return a PageElement (for pages) or an Action (for APIs), including inherited ones.
+ * <p>
+ * The processor is not registered as a service, so it only runs when it is named explicitly, for example with
+ * the <code>element-registry</code> Maven profile or the javac <code>-processor</code> option. When no
+ * registry has been generated for a class, elements and actions are looked up through reflection instead.
+ *
+ * @see com.dougnoel.sentinel.reflection.ElementRegistry
+ */
+@SupportedAnnotationTypes("*")
+public class ElementRegistryProcessor extends AbstractProcessor {
+	private static final String PAGE_CLASS = "com.dougnoel.sentinel.pages.Page";
+	private static final String PAGE_ELEMENT_CLASS = "com.dougnoel.sentinel.elements.PageElement";
+	private static final String API_CLASS = "com.dougnoel.sentinel.apis.API";
+	private static final String ACTION_CLASS = "com.dougnoel.sentinel.apis.Action";
+
+	/**
+	 * Supports whatever source version the compiler is running with, since generated code only uses Java 7 features.
+	 *
+	 * @return SourceVersion the latest source version supported by the compiler
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * Generates a registry for every page object and API class in this round.
+	 *
+	 * @param annotations Set&lt;? extends TypeElement&gt; not used, all root elements are examined
+	 * @param roundEnv RoundEnvironment the current processing round
+	 * @return boolean always false so that annotations are left for other processors
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		Elements elements = processingEnv.getElementUtils();
+		Types types = processingEnv.getTypeUtils();
+		TypeElement page = elements.getTypeElement(PAGE_CLASS);
+		TypeElement pageElement = elements.getTypeElement(PAGE_ELEMENT_CLASS);
+		TypeElement api = elements.getTypeElement(API_CLASS);
+		TypeElement action = elements.getTypeElement(ACTION_CLASS);
+
+		for (Element element : roundEnv.getRootElements()) {
+			if (element.getKind() != ElementKind.CLASS
+					|| !element.getModifiers().contains(Modifier.PUBLIC)
+					|| element.getModifiers().contains(Modifier.ABSTRACT)) {
+				continue;
+			}
+			TypeElement type = (TypeElement) element;
+			if (page != null && pageElement != null && types.isSubtype(type.asType(), page.asType())) {
+				generateRegistry(type, pageElement.asType());
+			} else if (api != null && action != null && types.isSubtype(type.asType(), api.asType())) {
+				generateRegistry(type, action.asType());
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Writes the registry source file for the given class.
+	 *
+	 * @param type TypeElement the page object or API class
+	 * @param returnType TypeMirror the type the registered methods must return
+	 */
+	private void generateRegistry(TypeElement type, TypeMirror returnType) {
+		Types types = processingEnv.getTypeUtils();
+		Set<String> methodNames = new LinkedHashSet<>();
+		for (Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+			if (member.getKind() != ElementKind.METHOD
+					|| !member.getModifiers().contains(Modifier.PUBLIC)
+					|| member.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+			ExecutableElement method = (ExecutableElement) member;
+			if (method.getParameters().isEmpty() && types.isAssignable(method.getReturnType(), returnType)) {
+				methodNames.add(method.getSimpleName().toString());
+			}
+		}
+
+		String packageName = ((PackageElement) processingEnv.getElementUtils().getPackageOf(type)).getQualifiedName().toString();
+		String className = type.getSimpleName() + "_ElementRegistry";
+		String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+		String targetName = type.getQualifiedName().toString();
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("/**\n * Generated by ").append(ElementRegistryProcessor.class.getName())
+			.append(" for ").append(targetName).append(". Do not edit.\n */\n")
+			.append("public final class ").append(className)
+			.append(" implements ").append(ElementRegistry.class.getName()).append(" {\n")
+			.append("\t@Override\n")
+			.append("\tpublic Object invoke(Object target, String methodName) throws Throwable {\n")
+			.append("\t\t").append(targetName).append(" object = (").append(targetName).append(") target;\n")
+			.append("\t\tswitch (methodName) {\n");
+		for (String methodName : methodNames) {
+			source.append("\t\tcase \"").append(methodName).append("\":\n")
+				.append("\t\t\treturn object.").append(methodName).append("();\n");
+		}
+		source.append("\t\tdefault:\n")
+			.append("\t\t\treturn NOT_FOUND;\n")
+			.append("\t\t}\n")
+			.append("\t}\n")
+			.append("}\n");
+
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+			writer.write(source.toString());
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate " + qualifiedName + ": " + e.getMessage(), type);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.dougnoel.sentinel.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A per-class table mapping method names to MethodHandles for the public methods that take no arguments.
+ * Page objects define elements and API objects define actions this way, e.g. <code>login_button()</code>.
+ * <p>
+ * The table for a class is built the first time the class is used and kept for as long as the class is
+ * loaded. Every later lookup is a single map access, and calling the MethodHandle avoids the access checks
+ * and argument boxing that Method.invoke does on every call.
+ * <p>
+ * If the ElementRegistryProcessor generated a registry for a class at compile time, invoke() uses it
+ * before falling back to the MethodHandle table.
+ *
+ * @see com.dougnoel.sentinel.reflection.ElementRegistryProcessor
+ */
+public class MethodDispatchTable {
+	private static final Logger log = LogManager.getLogger(MethodDispatchTable.class); // Create a logger.
+
+	private static final MethodType GENERIC_GETTER = MethodType.methodType(Object.class, Object.class);
+
+	/**
+	 * Returned by invoke() when the class has no method with the given name.
+	 */
+	public static final Object NOT_FOUND = ElementRegistry.NOT_FOUND;
+
+	private static final String REGISTRY_SUFFIX = "_ElementRegistry";
+
+	private static final ClassValue<Optional<ElementRegistry>> registries = new ClassValue<Optional<ElementRegistry>>() {
+		@Override
+		protected Optional<ElementRegistry> computeValue(Class<?> type) {
+			return loadRegistry(type);
+		}
+	};
+
+	private static final ClassValue<Map<String, MethodHandle>> tables = new ClassValue<Map<String, MethodHandle>>() {
+		@Override
+		protected Map<String, MethodHandle> computeValue(Class<?> type) {
+			return buildTable(type);
+		}
+	};
+
+	private MethodDispatchTable() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Calls the public no-argument method with the given name on the target and returns the result. If an
+	 * ElementRegistry was generated for the target's class at compile time, it is used; otherwise the method
+	 * is called through the cached MethodHandle.
+	 *
+	 * @param target Object the page or API object to call the method on
+	 * @param methodName String the name of the method
+	 * @return Object the result of the method, or NOT_FOUND if the class has no such method
+	 * @throws Throwable any exception thrown by the called method
+	 */
+	public static Object invoke(Object target, String methodName) throws Throwable {
+		Class<?> type = target.getClass();
+		Optional<ElementRegistry> registry = registries.get(type);
+		if (registry.isPresent()) {
+			Object result = registry.get().invoke(target, methodName);
+			if (result != NOT_FOUND) {
+				return result;
+			}
+		}
+		MethodHandle handle = find(type, methodName);
+		if (handle == null) {
+			return NOT_FOUND;
+		}
+		return (Object) handle.invokeExact(target);
+	}
+
+	/**
+	 * Returns the MethodHandle for the public no-argument method with the given name. The handle has the type
+	 * (Object)Object, so it can be called with <code>Object result = handle.invokeExact((Object) target);</code>
+	 *
+	 * @param type Class&lt;?&gt; the class that defines the method
+	 * @param methodName String the name of the method
+	 * @return MethodHandle the handle for the method, or null if the class has no such method
+	 */
+	public static MethodHandle find(Class<?> type, String methodName) {
+		return tables.get(type).get(methodName);
+	}
+
+	/**
+	 * Returns the ElementRegistry generated at compile time for the given class, if there is one.
+	 *
+	 * @param type Class&lt;?&gt; the page or API class
+	 * @return Optional&lt;ElementRegistry&gt; the generated registry, or empty if none was generated
+	 */
+	private static Optional<ElementRegistry> loadRegistry(Class<?> type) {
+		String registryName = type.getName() + REGISTRY_SUFFIX;
+		try {
+			Class<?> registryClass = Class.forName(registryName, true, type.getClassLoader());
+			if (ElementRegistry.class.isAssignableFrom(registryClass)) {
+				log.trace("Using generated element registry {}", registryName);
+				return Optional.of((ElementRegistry) registryClass.getConstructor().newInstance());
+			}
+		} catch (ClassNotFoundException e) {
+			log.trace("No generated element registry found for {}", type.getName());
+		} catch (ReflectiveOperationException | LinkageError e) {
+			log.debug("Generated element registry {} could not be loaded, using reflection instead: {}", registryName, e.getMessage());
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Builds the table of public, non-static, no-argument methods that return a value for the given class,
+	 * including inherited methods.
+	 *
+	 * @param type Class&lt;?&gt; the class to build a table for
+	 * @return Map&lt;String,MethodHandle&gt; method names mapped to handles of type (Object)Object
+	 */
+	private static Map<String, MethodHandle> buildTable(Class<?> type) {
+		Map<String, MethodHandle> table = new HashMap<>();
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		for (Method method : type.getMethods()) {
+			if (method.getParameterCount() != 0 || method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+			try {
+				method.setAccessible(true); // Page objects are not always declared in public classes.
+				table.put(method.getName(), lookup.unreflect(method).asType(GENERIC_GETTER));
+			} catch (IllegalAccessException | SecurityException e) {
+				log.trace("{}.{}() cannot be accessed: {}", type.getName(), method.getName(), e.getMessage());
+			}
+		}
+		log.trace("Built a dispatch table of {} methods for {}", table.size(), type.getName());
+		return Collections.unmodifiableMap(table);
+	}
+}
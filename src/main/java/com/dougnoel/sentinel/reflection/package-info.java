@@ -0,0 +1,4 @@
+/**
+ * Cached lookups of the methods that page and API objects use to define their elements and actions.
+ */
+package com.dougnoel.sentinel.reflection;
@@ -1,11 +1,18 @@
 package com.dougnoel.sentinel.steps;
 
 import static com.dougnoel.sentinel.elements.ElementFunctions.getElement;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import com.dougnoel.sentinel.configurations.ConfigurationManager;
+import com.dougnoel.sentinel.configurations.ScenarioValueStore;
+import com.dougnoel.sentinel.instrumentation.Instrumentation;
 import com.dougnoel.sentinel.pages.PageManager;
 import cucumber.api.Scenario;
+import cucumber.api.java.After;
 import cucumber.api.java.Before;
 import cucumber.api.java.en.Given;
 import cucumber.api.java.en.When;
@@ -26,6 +33,23 @@ public class BaseSteps {
     public static void before(Scenario scenario) {
         log.trace("Scenario ID: {} Scenario Name: {}", scenario.getId(), scenario.getName());
     }
+
+    /**
+     * Clears the values stored during the scenario so they do not leak into the next scenario
+     * run on the same thread, and fails the scenario if any of its steps went over their step budget.
+     * 
+     * @param scenario Scenario the scenario that just finished
+     * @see com.dougnoel.sentinel.instrumentation.StepBudget
+     */
+    @After
+    public static void after(Scenario scenario) {
+        ScenarioValueStore.clear();
+        log.trace("Scenario ID: {} finished with status {}", scenario.getId(), scenario.getStatus());
+        List<String> budgetViolations = Instrumentation.takeBudgetViolations();
+        if (!budgetViolations.isEmpty()) {
+            fail("Steps went over their budget:\n" + String.join("\n", budgetViolations));
+        }
+    }
     
     /**
      * Clicks the element that matches the given elementName as defined on the current Page object. The page object and driver object are defined by the
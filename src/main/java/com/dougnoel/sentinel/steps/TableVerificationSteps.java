@@ -4,10 +4,17 @@ import static com.dougnoel.sentinel.elements.ElementFunctions.getElementAsTable;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Comparator;
+import java.util.List;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.dougnoel.sentinel.configurations.ConfigurationManager;
+import com.dougnoel.sentinel.elements.CellComparators;
+import com.dougnoel.sentinel.elements.Table;
+import com.dougnoel.sentinel.enums.MatchType;
+import com.dougnoel.sentinel.enums.SortType;
 import com.dougnoel.sentinel.strings.StringUtils;
 
 import cucumber.api.java.en.Then;
@@ -64,27 +71,39 @@ public class TableVerificationSteps {
     }
     
     /**
-     * Verifies a column contains unique text
+     * Verifies a column contains unique text. For more than one column, verifies that no two rows have the
+     * same text in all of the columns. Every group of duplicates is listed if the verification fails.
+     * <p>
+     * By default a value is a duplicate if it is the same as, or inside, another value, so Bob and Bobby are
+     * duplicates. End the step with "comparing equal text" to only count values that are the same, or with
+     * "comparing containing text" to say so explicitly.
      * <p>
      * <b>Gherkin Examples:</b>
      * <ul>
      * <li>I verify the Date column in the History table contains unique values</li>
-     * <li>I verify the Contact column in the Provider table contains unique values</li>
-     * <li>I verify the Email column in the Employees table contains unique values</li>
+     * <li>I verify the Contact column in the Provider table contains unique values comparing containing text</li>
+     * <li>I verify the Email column in the Employees table contains unique values comparing equal text</li>
+     * <li>I verify the First Name, Last Name columns in the Employees table contain unique values comparing equal text</li>
      * </ul>
      * @param columnName String name of the column to verify
      * @param isMultiCells String if table has more than 1 row
      * @param tableName String name of the table to search
+     * @param match String "equal" to compare values for equality, "containing" or null to also count values inside other values
      * @throws Throwable this exists so that any uncaught exceptions result in the test failing
      */
-    @Then("^I verify the (.*?) column(s)? in the (.*?) contains? unique values$")
+    @Then("^I verify the (.*?) column(s)? in the (.*?) contains? unique values(?: comparing (equal|containing) text)?$")
 	public static void i_verify_the_column_in_the_table_contains_unique_text(String columnName, String isMultiCells,
-			String tableName) throws Throwable {
-		if (isMultiCells != null) {		
-			assertTrue(getElementAsTable(tableName).verifyRowCellsAreUnique(columnName));
+			String tableName, String match) throws Throwable {
+		MatchType matchType = "equal".equals(match) ? MatchType.EQUALS : MatchType.CONTAINS;
+		Table table = getElementAsTable(tableName);
+		List<String> duplicates;
+		if (isMultiCells != null) {
+			duplicates = table.findDuplicateRows(matchType, columnName.split(", "));
 		} else {
-			assertTrue(getElementAsTable(tableName).verifyColumnCellsAreUnique(columnName));
+			duplicates = table.findDuplicateCells(columnName, matchType);
 		}
+		assertTrue(StringUtils.format("Duplicate values found in the {} column{} of the {}: {}", columnName,
+				isMultiCells != null ? "s" : "", tableName, duplicates), duplicates.isEmpty());
 	}
 
     /**
@@ -168,30 +187,45 @@ public class TableVerificationSteps {
     }
     
     /**
-     * Verifies a table column's values are sorted in ascending or descending order.
+     * Verifies a table column's values are sorted in ascending or descending order. Cells are compared as text
+     * unless a sort type is given: case insensitive, natural (numbers inside the text are compared by value),
+     * numeric, currency or date. Dates default to the yyyy-MM-dd format and numbers and currency to en-US
+     * separators; either can be changed by adding a date pattern or language tag after "with the format".
+     * Each pair of neighboring cells is compared once, and the first row out of order is reported.
      * <p>
      * <b>Gherkin Examples:</b>
      * <ul>
      * <li>I verify the cells in the First Name column in the Users Table are sorted in ascending order</li>
-     * <li>I verify the cells in the Last Name Column in the example table are sorted in descending order</li>
-     * <li>I verify the cells in the state column in the Address table are sorted in ascending order</li>
+     * <li>I verify the cells in the Last Name Column in the example table are sorted in descending case insensitive order</li>
+     * <li>I verify the cells in the Distance column in the Runs table are sorted in ascending numeric order</li>
+     * <li>I verify the cells in the Balance column in the Accounts table are sorted in descending currency order with the format de-DE</li>
+     * <li>I verify the cells in the Created column in the Orders table are sorted in ascending date order with the format MM/dd/yyyy</li>
      * </ul>
      * @param columnName String the name of the column to verify
      * @param tableName String the name of the table containing the column
      * @param sortOrder String ascending or descending
+     * @param sortType String how to compare the cells, or null to use the order set on the column
+     * @param format String the date pattern or language tag for the sort type, or null for the default
      * @throws Throwable this exists so that any uncaught exceptions result in the test failing
      */
-    @Then("^I verify the cells in the (.*?) column in the (.*?) are sorted in (ascending|descending) order$")
-    public static void i_verify_the_cells_in_the_column_in_the_table_are_sorted(String columnName, String tableName, String sortOrder) throws Throwable {
+    @Then("^I verify the cells in the (.*?) column in the (.*?) are sorted in (ascending|descending)(?: (text|case insensitive|natural|numeric|currency|date))? order(?: with the format (.*))?$")
+    public static void i_verify_the_cells_in_the_column_in_the_table_are_sorted(String columnName, String tableName, String sortOrder, String sortType, String format) throws Throwable {
         boolean sortAscending = StringUtils.equals(sortOrder, "ascending");
+        Table table = getElementAsTable(tableName);
+        Comparator<String> comparator;
+        if (StringUtils.isEmpty(sortType)) {
+            comparator = table.getColumnComparator(columnName);
+        } else {
+            comparator = CellComparators.get(SortType.valueOf(sortType.trim().toUpperCase().replace(' ', '_')), format);
+        }
+        if (!sortAscending) {
+            comparator = comparator.reversed();
+        }
         
         String expectedResult = StringUtils.format("Expected the {} column of the {} to be sorted in {} order.", columnName, tableName, (sortAscending ? "ascending" : "descending"));
         log.trace(expectedResult);
-        if (sortAscending) {
-        	assertTrue(expectedResult, getElementAsTable(tableName).verifyColumnCellsAreSortedAscending(columnName));
-        } else {
-            assertTrue(expectedResult, getElementAsTable(tableName).verifyColumnCellsAreSortedDescending(columnName));
-        }
+        int row = table.findFirstUnsortedRow(columnName, comparator);
+        assertTrue(row == -1 ? expectedResult : StringUtils.format("{} Row {} is out of order.", expectedResult, row), row == -1);
     }
 
 }
@@ -1,7 +1,6 @@
 package com.dougnoel.sentinel.steps;
 
 import static com.dougnoel.sentinel.elements.ElementFunctions.getElement;
-import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.apache.logging.log4j.LogManager;
@@ -9,6 +8,7 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 
+import com.dougnoel.sentinel.elements.ElementSnapshot;
 import com.dougnoel.sentinel.pages.PageManager;
 import com.dougnoel.sentinel.strings.StringUtils;
 import com.dougnoel.sentinel.webdrivers.WebDriverFactory;
@@ -98,11 +98,8 @@ public class VerificationSteps {
         boolean negate = !StringUtils.isEmpty(assertion);
         String expectedResult = StringUtils.format("Expected the element {} to {} selected.",
                 elementName, (negate ? "not be" : "be"));
-        if (negate) {
-            assertFalse(expectedResult, getElement(elementName).isSelected());
-        } else {
-            assertTrue(expectedResult, getElement(elementName).isSelected());
-        }
+        ElementSnapshot snapshot = getElement(elementName).snapshot();
+        assertTrue(expectedResult + " Found: " + snapshot, negate != snapshot.isSelected());
     }
     
     /**
@@ -124,13 +121,10 @@ public class VerificationSteps {
             throws Throwable {
         boolean negate = !StringUtils.isEmpty(assertion);
         String expectedResult = StringUtils.format("Expected the element {} to {}have the attribute \"{}\".",
-                elementName, (negate ? "" : "not "), attribute);
+                elementName, (negate ? "not " : ""), attribute);
         log.trace(expectedResult);
-        if (negate) {
-            assertFalse(expectedResult, getElement(elementName).hasClass(attribute));
-        } else {
-            assertTrue(expectedResult, getElement(elementName).hasClass(attribute));
-        }
+        ElementSnapshot snapshot = getElement(elementName).snapshot();
+        assertTrue(expectedResult + " Found: " + snapshot, negate != snapshot.hasClass(attribute));
     }
     
     /**
@@ -150,13 +144,10 @@ public class VerificationSteps {
     public static void i_verify_an_element_is_active(String elementName, String assertion) throws Throwable {
         boolean negate = !StringUtils.isEmpty(assertion);
         String expectedResult = StringUtils.format("Expected the element {} to {}be active.",
-                elementName, (negate ? "" : "not "));
+                elementName, (negate ? "not " : ""));
         log.trace(expectedResult);
-        if (negate) {
-            assertFalse(expectedResult, getElement(elementName).hasClass("active"));
-        } else {
-            assertTrue(expectedResult, getElement(elementName).hasClass("active"));
-        }
+        ElementSnapshot snapshot = getElement(elementName).snapshot();
+        assertTrue(expectedResult + " Found: " + snapshot, negate != snapshot.hasClass("active"));
     }
     
     /**
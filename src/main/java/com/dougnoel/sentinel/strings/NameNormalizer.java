@@ -0,0 +1,77 @@
+package com.dougnoel.sentinel.strings;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts names used in Cucumber steps into the keys used in code, e.g. "Login Button" becomes
+ * "login_button". Each run of whitespace is replaced by a single underscore and the result is
+ * lower cased, which is the same result as name.replaceAll("\\s+", "_").toLowerCase().
+ * <p>
+ * Step text repeats the same few names over and over, so results are cached. The conversion is
+ * done with a single pass over the characters instead of a regular expression.
+ */
+public class NameNormalizer {
+	/* Stop caching new names past this point so a run with generated names cannot grow the cache without bound. */
+	private static final int MAX_CACHE_SIZE = 10000;
+
+	private static final Map<String, String> normalizedNames = new ConcurrentHashMap<>();
+
+	private NameNormalizer() {
+		// Exists only to defeat instantiation.
+	}
+
+	/**
+	 * Returns the given name with each run of whitespace replaced by an underscore, in lower case.
+	 *
+	 * @param name String the name as written in a step
+	 * @return String the normalized name, or null if the name is null
+	 */
+	public static String normalize(String name) {
+		if (name == null) {
+			return null;
+		}
+		String normalized = normalizedNames.get(name);
+		if (normalized == null) {
+			normalized = convert(name);
+			if (normalizedNames.size() < MAX_CACHE_SIZE) {
+				normalizedNames.put(name, normalized);
+			}
+		}
+		return normalized;
+	}
+
+	/**
+	 * Replaces each run of whitespace characters with a single underscore and lower cases the result.
+	 *
+	 * @param name String the name to convert
+	 * @return String the converted name
+	 */
+	private static String convert(String name) {
+		StringBuilder result = new StringBuilder(name.length());
+		boolean inWhitespace = false;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (isWhitespace(c)) {
+				if (!inWhitespace) {
+					result.append('_');
+					inWhitespace = true;
+				}
+			} else {
+				result.append(c);
+				inWhitespace = false;
+			}
+		}
+		return result.toString().toLowerCase();
+	}
+
+	/**
+	 * Returns true for the characters matched by the \s regular expression class.
+	 *
+	 * @param c char the character to check
+	 * @return boolean true if the character is whitespace
+	 */
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+}
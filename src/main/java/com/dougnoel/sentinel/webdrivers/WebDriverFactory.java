@@ -1,6 +1,8 @@
 package com.dougnoel.sentinel.webdrivers;
 
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,8 +18,10 @@ import com.dougnoel.sentinel.configurations.ConfigurationManager;
 import com.dougnoel.sentinel.exceptions.ConfigurationNotFoundException;
 import com.dougnoel.sentinel.exceptions.WebDriverNotExecutableException;
 import com.dougnoel.sentinel.exceptions.MalformedURLException;
+import com.dougnoel.sentinel.exceptions.SentinelException;
 import com.dougnoel.sentinel.exceptions.WebDriverException;
 import com.dougnoel.sentinel.filemanagers.DownloadManager;
+import com.dougnoel.sentinel.instrumentation.Instrumentation;
 import com.dougnoel.sentinel.strings.StringUtils;
 
 /**
@@ -57,7 +61,10 @@ import com.dougnoel.sentinel.strings.StringUtils;
  */
 public class WebDriverFactory {
     private static final Logger log = LogManager.getLogger(WebDriverFactory.class); // Create a logger.
-    private static WebDriver driver = null;
+    // Each thread gets its own driver so that scenarios can be run in parallel.
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    // Every driver created, so that drivers belonging to worker threads can be shut down at the end of the run.
+    private static final Set<WebDriver> drivers = ConcurrentHashMap.newKeySet();
 
     private static WebDriverFactory instance = null;
 
@@ -80,16 +87,34 @@ public class WebDriverFactory {
      * @throws ConfigurationNotFoundException if a needed configuration value cannot be found
      */
     public static WebDriver instantiateWebDriver() throws WebDriverException, MalformedURLException, ConfigurationNotFoundException {
-        // Ensure we only have one instance of this class, so that we always return the
-        // same driver.
-        if (instance == null) {
-            instance = new WebDriverFactory();
+        // Ensure we only have one instance of this class, and register a hook to clean up any
+        // drivers that are still open when the JVM exits.
+        synchronized (WebDriverFactory.class) {
+            if (instance == null) {
+                instance = new WebDriverFactory();
+                Runtime.getRuntime().addShutdownHook(new Thread(WebDriverFactory::quitAllWebDrivers));
+            }
         }
-        
+
+        WebDriver webDriver = Instrumentation.instrument(createWebDriver());
+        driver.set(webDriver);
+        drivers.add(webDriver);
+        log.debug("WebDriver created for thread {}", Thread.currentThread().getName());
+        return webDriver;
+    }
+
+    /**
+     * Creates a new WebDriver for the configured browser, or a Saucelabs driver if a Saucelabs user name is set.
+     * @return WebDriver the new WebDriver
+     * @throws MalformedURLException if the saucelabs URL is malformed
+     * @throws WebDriverException if error thrown while creating WebDriver instance
+     * @throws ConfigurationNotFoundException if a needed configuration value cannot be found
+     */
+    private static WebDriver createWebDriver() throws WebDriverException, MalformedURLException, ConfigurationNotFoundException {
         //Saucelabs Driver setup
         String saucelabsUserName = ConfigurationManager.getOptionalProperty("saucelabsUserName");
         if (saucelabsUserName != null) {
-        	return driver = SauceLabsDriverFactory.createSaucelabsDriver(); //NOTE: Returning the driver here so that we do not need an extra else statement.
+        	return SauceLabsDriverFactory.createSaucelabsDriver(); //NOTE: Returning the driver here so that we do not need an extra else statement.
         }
 
         // Set a Download Directory if one was specified on the command line
@@ -103,35 +128,64 @@ public class WebDriverFactory {
         // Throw an error if the value isn't found.   	
     	switch (browser) {
         case "chrome":
-        	driver = createChromeDriver();
-            break;
+        	return createChromeDriver();
         case "firefox":
-        	driver = createFirefoxDriver();
-            break;
+        	return createFirefoxDriver();
         case "internetexplorer":
-        	driver = createInternetExplorerDriver();
-            break;
+        	return createInternetExplorerDriver();
         case "safari":
-        	driver = createSafariDriver();
-            break;
+        	return createSafariDriver();
         default:
             throw new WebDriverException(StringUtils.format("Invalid browser type '{}' passed to WebDriverFactory. Could not resolve the reference. Check your spelling. Refer to the Javadoc for valid options.", browser));
         }
-
-        return driver;
     }
 
     /**
-     * Returns the WebDriver instance. This will silently log an error if the WebDriver has not been instantiated yet.
+     * Returns the WebDriver instance for the current thread. If this thread does not have a driver yet,
+     * one is created. This happens for each worker thread when scenarios are run in parallel. If the
+     * driver cannot be created, an error is logged and null is returned.
      * 
      * @return WebDriver the created Selenium WebDriver
      */
     public static WebDriver getWebDriver()  {
-        if (instance == null) {
-        	String errorMessage = "WebDriver has not been created. Call WebDriver.instantiateWebDriver() before calling WebDriver.getWebDriver";
-        	log.error(errorMessage);
+        WebDriver webDriver = driver.get();
+        if (webDriver == null) {
+        	try {
+        		webDriver = instantiateWebDriver();
+        	} catch (SentinelException e) {
+        		String errorMessage = StringUtils.format("WebDriver could not be created for thread {}: {}", Thread.currentThread().getName(), e.getMessage());
+        		log.error(errorMessage);
+        	}
+        }
+        return webDriver;
+    }
+
+    /**
+     * Quits the WebDriver for the current thread, if one exists. The next call to getWebDriver on this thread
+     * will create a new driver.
+     */
+    public static void quitWebDriver() {
+        WebDriver webDriver = driver.get();
+        driver.remove();
+        if (webDriver != null) {
+            drivers.remove(webDriver);
+            webDriver.quit();
+        }
+    }
+
+    /**
+     * Quits every WebDriver that has been created by any thread and not yet quit. Called automatically
+     * when the JVM shuts down so that worker threads do not leave browsers open.
+     */
+    public static void quitAllWebDrivers() {
+        for (WebDriver webDriver : drivers) {
+            drivers.remove(webDriver);
+            try {
+                webDriver.quit();
+            } catch (org.openqa.selenium.WebDriverException e) {
+                log.debug("WebDriver could not be quit: {}", e.getMessage());
+            }
         }
-        return driver;
     }
 
     /**
@@ -153,14 +207,7 @@ public class WebDriverFactory {
     private static String getOperatingSystem() throws ConfigurationNotFoundException {
     	//TODO: Add auto detection
     	//TODO Make this useable by Saucelabs driver
-    	String operatingSystem = ConfigurationManager.getProperty("os");
-        operatingSystem = operatingSystem.replaceAll("\\s+", "").toLowerCase();
-        if (operatingSystem.equals("macintosh") || operatingSystem.equals("osx"))
-            operatingSystem = "mac";
-        else if (operatingSystem.equals("win"))
-            operatingSystem = "windows";
-        
-        return operatingSystem;
+        return ConfigurationManager.getConfiguration().getOperatingSystem();
     }
     
     /**
@@ -194,13 +241,7 @@ public class WebDriverFactory {
     private static String getBrowserName() throws ConfigurationNotFoundException {
     	//TODO: Add auto detection
     	//TODO Make this useable by Saucelabs driver
-    	String browser = ConfigurationManager.getProperty("browser");
-        // Make sure whatever string we are passed is all lower case and all spaces are
-        // removed.
-        browser = browser.replaceAll("\\s+", "").toLowerCase();
-        if (browser.equals("ie"))
-            browser = "internetexplorer";
-        return browser;
+        return ConfigurationManager.getConfiguration().getBrowser();
     }
     
     /**
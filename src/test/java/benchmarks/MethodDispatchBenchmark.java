@@ -0,0 +1,72 @@
+package benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dougnoel.sentinel.reflection.MethodDispatchTable;
+import com.dougnoel.sentinel.strings.NameNormalizer;
+
+/**
+ * Compares finding and calling an element method by its step name the way ElementFunctions.getElement did
+ * before, with a regex, getMethod and Method.invoke, against NameNormalizer and MethodDispatchTable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodDispatchBenchmark {
+	@Param({ "Login Button", "example table" })
+	public String elementName;
+
+	private final ExamplePage page = new ExamplePage();
+
+	@Benchmark
+	public Object reflection() throws ReflectiveOperationException {
+		Method method = page.getClass().getMethod(elementName.replaceAll("\\s+", "_").toLowerCase());
+		return method.invoke(page);
+	}
+
+	@Benchmark
+	public Object dispatchTable() throws Throwable {
+		return MethodDispatchTable.invoke(page, NameNormalizer.normalize(elementName));
+	}
+
+	/**
+	 * A page object with as many element methods as a typical page.
+	 */
+	public static class ExamplePage {
+		public Object username_field() { return "username_field"; }
+		public Object password_field() { return "password_field"; }
+		public Object login_button() { return "login_button"; }
+		public Object logout_link() { return "logout_link"; }
+		public Object search_field() { return "search_field"; }
+		public Object search_button() { return "search_button"; }
+		public Object results_table() { return "results_table"; }
+		public Object example_table() { return "example_table"; }
+		public Object next_page_link() { return "next_page_link"; }
+		public Object previous_page_link() { return "previous_page_link"; }
+		public Object first_name_field() { return "first_name_field"; }
+		public Object last_name_field() { return "last_name_field"; }
+		public Object email_field() { return "email_field"; }
+		public Object state_dropdown() { return "state_dropdown"; }
+		public Object terms_checkbox() { return "terms_checkbox"; }
+		public Object submit_button() { return "submit_button"; }
+		public Object cancel_button() { return "cancel_button"; }
+		public Object error_message() { return "error_message"; }
+		public Object success_message() { return "success_message"; }
+		public Object header_label() { return "header_label"; }
+	}
+}
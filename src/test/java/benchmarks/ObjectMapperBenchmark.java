@@ -0,0 +1,75 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dougnoel.sentinel.configurations.ObjectMappers;
+import com.dougnoel.sentinel.pages.PageData;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+/**
+ * Compares parsing page object YAML and JSON with a new ObjectMapper per call, as PageData.loadYaml and
+ * ConfigurationManager did before, against the shared mappers in ObjectMappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMapperBenchmark {
+	private static final String PAGE_YAML =
+			"urls:\n" +
+			"  base: https://dougnoel.github.io/sentinel/test/table.html\n" +
+			"  dev: https://dev.example.com/table.html\n" +
+			"accounts:\n" +
+			"  default:\n" +
+			"    StandardUser:\n" +
+			"      username: user@example.com\n" +
+			"      password: secret\n" +
+			"testdata:\n" +
+			"  default:\n" +
+			"    report:\n" +
+			"      name: Quarterly\n" +
+			"      rows: \"25\"\n";
+
+	private static final String RESPONSE_JSON =
+			"{\"id\": 42, \"name\": \"Bob Smith\", \"roles\": [\"admin\", \"user\"], \"address\": {\"city\": \"Windypeaks\", \"zip\": \"29401\"}}";
+
+	@Benchmark
+	public PageData yamlWithNewMapper() throws IOException {
+		return new ObjectMapper(new YAMLFactory())
+				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+				.readValue(PAGE_YAML, PageData.class);
+	}
+
+	@Benchmark
+	public PageData yamlWithSharedMapper() throws IOException {
+		return ObjectMappers.getYamlMapper().readValue(PAGE_YAML, PageData.class);
+	}
+
+	@Benchmark
+	public JsonNode jsonWithNewMapper() throws IOException {
+		return new ObjectMapper()
+				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+				.readTree(RESPONSE_JSON);
+	}
+
+	@Benchmark
+	public JsonNode jsonWithSharedMapper() throws IOException {
+		return ObjectMappers.getJsonMapper().readTree(RESPONSE_JSON);
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * JMH benchmarks for Sentinel internals that do not need a browser. Run them with
+ * <code>mvn test-compile exec:exec -Pbenchmark</code>, or a single one with -Dbenchmark=ClassName.
+ */
+package benchmarks;
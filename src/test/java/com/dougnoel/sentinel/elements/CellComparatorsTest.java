@@ -0,0 +1,147 @@
+package com.dougnoel.sentinel.elements;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.dougnoel.sentinel.enums.SortType;
+
+/**
+ * Checks the comparators of each SortType, and the row TableSnapshot reports when a column is out of order.
+ */
+public class CellComparatorsTest {
+
+	/**
+	 * Returns the row TableSnapshot reports as the first one out of order in a single column table.
+	 *
+	 * @param order Comparator&lt;String&gt; the expected order
+	 * @param cells String... the cells of the column, from top to bottom
+	 * @return int the row, starting at 0, or -1 if the column is sorted
+	 */
+	private static int firstUnsorted(Comparator<String> order, String... cells) {
+		List<List<String>> rows = new ArrayList<>();
+		for (String cell : cells) {
+			rows.add(Collections.singletonList(cell));
+		}
+		return new TableSnapshot(Collections.singletonList("Column"), rows).indexOfFirstUnsorted("Column", order);
+	}
+
+	@Test
+	public void textComparesCharacters() {
+		Comparator<String> text = CellComparators.get(SortType.TEXT);
+		assertTrue(text.compare("10", "9") < 0);
+		assertTrue(text.compare("B", "a") < 0);
+	}
+
+	@Test
+	public void caseInsensitiveIgnoresCase() {
+		Comparator<String> caseInsensitive = CellComparators.get(SortType.CASE_INSENSITIVE);
+		assertEquals(-1, firstUnsorted(caseInsensitive, "apple", "Banana", "cherry"));
+		assertEquals(0, caseInsensitive.compare("Bob", "BOB"));
+	}
+
+	@Test
+	public void naturalComparesNumbersByValue() {
+		Comparator<String> natural = CellComparators.get(SortType.NATURAL);
+		assertEquals(-1, firstUnsorted(natural, "Item 2", "Item 9", "Item 10", "Item 100"));
+		assertTrue(natural.compare("Item 10", "Item 9") > 0);
+		assertTrue(natural.compare("Item 9a", "Item 9b") < 0);
+	}
+
+	@Test
+	public void naturalIgnoresLeadingZeros() {
+		assertTrue(CellComparators.compareNatural("Item 010", "Item 9") > 0);
+		assertTrue(CellComparators.compareNatural("Item 08", "Item 9") < 0);
+		assertTrue(CellComparators.compareNatural("000", "0") != 0);
+		// Equal values only differ by their zeros, and are ordered as text so the order is stable.
+		assertTrue(CellComparators.compareNatural("Item 007", "Item 7") < 0);
+		assertTrue(CellComparators.compareNatural("Item 7", "Item 007") > 0);
+	}
+
+	@Test
+	public void numericReadsTheFirstNumber() {
+		Comparator<String> numeric = CellComparators.get(SortType.NUMERIC);
+		assertEquals(-1, firstUnsorted(numeric, "-2 Miles", "3.1 Miles", "12 Miles", "1,234.5 Miles"));
+		assertEquals(0, numeric.compare("1,000", "1000.0"));
+	}
+
+	@Test
+	public void numericUsesTheSeparatorsOfTheLanguageTag() {
+		Comparator<String> numeric = CellComparators.get(SortType.NUMERIC, "de-DE");
+		assertEquals(-1, firstUnsorted(numeric, "999,9", "1.234,5", "12.345"));
+		assertEquals(0, numeric.compare("1.234,50", "1234,5"));
+	}
+
+	@Test
+	public void currencyReadsNegativeAmounts() {
+		Comparator<String> currency = CellComparators.get(SortType.CURRENCY);
+		assertEquals(0, currency.compare("(12.00)", "-$12.00"));
+		assertEquals(-1, firstUnsorted(currency, "-$1,012.00", "(12.00)", "$0.99", "$1,234.50"));
+	}
+
+	@Test
+	public void currencyUsesTheSeparatorsOfTheLanguageTag() {
+		Comparator<String> currency = CellComparators.get(SortType.CURRENCY, "de-DE");
+		assertEquals(-1, firstUnsorted(currency, "-1.012,00 €", "(12,00 €)", "999,99 €", "1.234,50 €"));
+		assertEquals(0, currency.compare("1.234,50 €", "1234,5 €"));
+	}
+
+	@Test
+	public void dateReadsDatesAndTimesWithTheDefaultPattern() {
+		Comparator<String> date = CellComparators.get(SortType.DATE);
+		assertEquals(-1, firstUnsorted(date, "2019-12-31", "2020-01-02", "2020-01-02T09:30", "2020-01-02T09:30:15"));
+		assertEquals(0, date.compare("2020-01-02", "2020-01-02T00:00"));
+	}
+
+	@Test
+	public void dateFallsBackToALocalDate() {
+		Comparator<String> date = CellComparators.get(SortType.DATE, "MM/dd/yyyy[ HH:mm]");
+		assertEquals(-1, firstUnsorted(date, "12/31/2019", "01/02/2020", "01/02/2020 08:15"));
+		assertEquals(0, date.compare("01/02/2020", "01/02/2020 00:00"));
+	}
+
+	@Test
+	public void dateFallsBackToAYearMonth() {
+		Comparator<String> date = CellComparators.get(SortType.DATE, "MM/yyyy");
+		assertEquals(-1, firstUnsorted(date, "11/2019", "01/2020", "12/2020"));
+		assertTrue(date.compare("02/2020", "01/2020") > 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dateThrowsForACellThatIsNotADate() {
+		CellComparators.get(SortType.DATE).compare("2020-01-02", "Yesterday");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void numericThrowsForACellWithoutANumber() {
+		CellComparators.get(SortType.NUMERIC).compare("12", "N/A");
+	}
+
+	@Test
+	public void unsortedColumnReportsTheFirstRowOutOfOrder() {
+		Comparator<String> currency = CellComparators.get(SortType.CURRENCY);
+		// -$5.00 at index 3 is less than $2.00 above it. Table.findFirstUnsortedRow reports it as row 4.
+		assertEquals(3, firstUnsorted(currency, "(12.00)", "$1.00", "$2.00", "-$5.00", "$1.00"));
+		assertEquals(2, firstUnsorted(currency.reversed(), "$3.00", "$2.00", "$4.00", "$1.00"));
+	}
+
+	@Test
+	public void largeUnsortedColumnReportsTheFirstRowOutOfOrder() {
+		String[] cells = new String[TableSnapshot.PARALLEL_THRESHOLD + 100];
+		for (int row = 0; row < cells.length; row++) {
+			cells[row] = "Item " + row;
+		}
+		Collections.swap(Arrays.asList(cells), 5000, 9000);
+		Comparator<String> natural = CellComparators.get(SortType.NATURAL);
+		assertEquals(5001, firstUnsorted(natural, cells));
+		Collections.swap(Arrays.asList(cells), 5000, 9000);
+		assertEquals(-1, firstUnsorted(natural, cells));
+	}
+}
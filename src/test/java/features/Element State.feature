@@ -0,0 +1,10 @@
+#Author: Doug Noël
+Feature: Element State
+  Reads the state of an element with one command per property and with one snapshot, and checks that both give the same values.
+
+  @benchmark
+  Scenario: Reading several properties of an element
+    Given I am on the Dynamic Table Page
+    When I read the state of the Add Row Link one property at a time
+      And I read the state of the Add Row Link in one snapshot
+    Then I verify the Add Row Link exists
@@ -0,0 +1,10 @@
+package pages;
+
+import com.dougnoel.sentinel.elements.Link;
+import com.dougnoel.sentinel.elements.Table;
+import com.dougnoel.sentinel.pages.Page;
+
+public class DynamicTablePage extends Page {
+	public Table example_table() { return new Table(ID, "mytable"); }
+	public Link add_row_link() { return new Link(TEXT, "Add row"); }
+}
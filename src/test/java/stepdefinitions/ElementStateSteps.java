@@ -0,0 +1,90 @@
+package stepdefinitions;
+
+import static com.dougnoel.sentinel.elements.ElementFunctions.getElement;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebElement;
+
+import com.dougnoel.sentinel.elements.ElementSnapshot;
+import com.dougnoel.sentinel.exceptions.SentinelException;
+import com.dougnoel.sentinel.strings.StringUtils;
+
+import cucumber.api.java.en.When;
+
+/**
+ * Steps that read the state of an element, used by the @benchmark scenario in Element State.feature to
+ * compare the commands sent when the properties are read one at a time against reading them in one snapshot.
+ * The snapshot step also fails if the snapshot does not match the values read one at a time.
+ */
+public class ElementStateSteps {
+
+    private static final Logger log = LogManager.getLogger(ElementStateSteps.class); // Create a logger.
+
+    // The element name and values read by the last one property at a time step on this thread.
+    private static final ThreadLocal<String> lastElementName = new ThreadLocal<>();
+    private static final ThreadLocal<List<Object>> lastState = new ThreadLocal<>();
+
+    /**
+     * Reads whether the element is displayed, enabled and selected, its text and its class attribute,
+     * sending one command for each. The values are kept for the snapshot step to check against.
+     * <p>
+     * <b>Gherkin Example:</b>
+     * <ul>
+     * <li>I read the state of the Add Row Link one property at a time</li>
+     * </ul>
+     * @param elementName String the element to read
+     * @throws Throwable this exists so that any uncaught exceptions result in the test failing
+     */
+    @When("^I read the state of the (.*?) one property at a time$")
+    public static void i_read_the_state_of_an_element_one_property_at_a_time(String elementName) throws Throwable {
+        List<Object> state = readState(elementName);
+        log.debug("State of {}: displayed, enabled, selected, text, classes = {}", elementName, state);
+        lastElementName.set(elementName);
+        lastState.set(state);
+    }
+
+    /**
+     * Reads the same properties as i_read_the_state_of_an_element_one_property_at_a_time in one script call,
+     * and fails if any of them differ from the values read one at a time. The values of the previous step are
+     * used if it read the same element, so this step only sends the snapshot command; otherwise they are read here.
+     * <p>
+     * <b>Gherkin Example:</b>
+     * <ul>
+     * <li>I read the state of the Add Row Link in one snapshot</li>
+     * </ul>
+     * @param elementName String the element to read
+     * @throws Throwable this exists so that any uncaught exceptions result in the test failing
+     */
+    @When("^I read the state of the (.*?) in one snapshot$")
+    public static void i_read_the_state_of_an_element_in_one_snapshot(String elementName) throws Throwable {
+        ElementSnapshot snapshot = getElement(elementName).snapshot();
+        log.debug("State of {}: {}", elementName, snapshot);
+        List<Object> expected = elementName.equals(lastElementName.get()) ? lastState.get() : readState(elementName);
+        lastElementName.remove();
+        lastState.remove();
+        List<Object> actual = Arrays.asList(snapshot.isDisplayed(), snapshot.isEnabled(), snapshot.isSelected(),
+                snapshot.getText(), String.join(" ", snapshot.getClasses()));
+        assertEquals(StringUtils.format("The snapshot of the {} does not match the values read one at a time (displayed, enabled, selected, text, classes).",
+                elementName), expected, actual);
+    }
+
+    /**
+     * Reads whether the element is displayed, enabled and selected, its text and its classes with one
+     * WebDriver command each.
+     *
+     * @param elementName String the element to read
+     * @return List&lt;Object&gt; the displayed, enabled and selected flags, the text, and the classes separated by single spaces
+     * @throws SentinelException if the page or element cannot be found
+     */
+    private static List<Object> readState(String elementName) throws SentinelException {
+        WebElement element = getElement(elementName).toWebElement();
+        String classes = element.getAttribute("class");
+        return Arrays.asList(element.isDisplayed(), element.isEnabled(), element.isSelected(), element.getText(),
+                classes == null ? "" : String.join(" ", classes.trim().split("\\s+")));
+    }
+}